@@ -2,8 +2,12 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.3.2"
 	id("io.spring.dependency-management") version "1.1.6"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
+// Spring AOT 처리 (processAot). 실행 시 -Dspring.aot.enabled=true로 생성된 빈 정의를 사용
+apply(plugin = "org.springframework.boot.aot")
+
 group = "com.gdpark"
 version = "0.0.1-SNAPSHOT"
 description = "ffmpeg-ffprobe"
@@ -32,11 +36,125 @@ dependencies {
     // web
     implementation("org.springframework.boot:spring-boot-starter-web")
 
+    // metrics (Actuator + Prometheus)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
     implementation("org.springframework.boot:spring-boot-starter")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // benchmark (src/jmh)
+    jmh("org.springframework:spring-test")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 벽시계 시간 검증은 머신 부하에 따라 흔들리므로 기본 test에서 제외하고 별도 태스크로 실행
+// 예) ./gradlew startupBudgetTest -PstartupBudgetMs=15000
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("startup-budget")
+	}
+}
+
+tasks.register<Test>("startupBudgetTest") {
+	group = "verification"
+	description = "fast-startup 프로파일의 첫 요청 응답 시간이 예산(startup.budget-ms) 이내인지 검증합니다."
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("startup-budget")
+	}
+	(findProperty("startupBudgetMs") as String?)?.let { systemProperty("startup.budget-ms", it) }
+	shouldRunAfter(tasks.test)
+}
+
+// JMH 마이크로벤치마크: ./gradlew jmh (결과: build/results/jmh/results.json)
+// 특정 벤치마크만 실행: ./gradlew jmh -PjmhIncludes=SceneTimestampParse
+jmh {
+	jmhVersion = "1.37"
+	profilers.add("gc") // 할당률(gc.alloc.rate.norm) 측정
+	resultFormat = "JSON"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	(findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
+// 오프라인 ML 모델 학습 (애플리케이션 시작 경로에서 분리)
+// 예) ./gradlew trainSceneModel -PtrainArgs="/opt/homebrew/bin/ffprobe models/scene-boundary.model a.mp4 a.txt"
+tasks.register<JavaExec>("trainIrisModel") {
+	group = "ml"
+	description = "iris.arff로 예제 랜덤 포레스트 모델을 학습하여 models/iris.model로 저장합니다."
+	classpath = sourceSets["main"].runtimeClasspath
+	mainClass.set("com.gdpark.ffmpeg.util.Smile")
+	args = listOf("iris.arff", "models/iris.model")
+}
+
+tasks.register<JavaExec>("trainSceneModel") {
+	group = "ml"
+	description = "정답 장면 전환 목록으로 장면 경계 분류 모델을 학습하여 직렬화합니다."
+	classpath = sourceSets["main"].runtimeClasspath
+	mainClass.set("com.gdpark.ffmpeg.ml.SceneBoundaryTrainer")
+	args = (findProperty("trainArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+// 빠른 시작: bootJar를 압축 해제한 뒤 CDS(Class Data Sharing) 아카이브를 생성
+// 실행 예) java -XX:SharedArchiveFile=build/cds/application.jsa -Dspring.profiles.active=fast-startup \
+//           -jar build/cds/ffmpeg-ffprobe-0.0.1-SNAPSHOT.jar
+val cdsDir = layout.buildDirectory.dir("cds")
+val cdsLauncher = javaToolchains.launcherFor { languageVersion = JavaLanguageVersion.of(17) }
+
+tasks.register<Exec>("extractBootJar") {
+	group = "startup"
+	description = "CDS 학습 실행을 위해 bootJar를 build/cds에 압축 해제합니다."
+	dependsOn(tasks.bootJar)
+	doFirst {
+		delete(cdsDir)
+		executable = cdsLauncher.get().executablePath.asFile.absolutePath
+	}
+	argumentProviders.add(CommandLineArgumentProvider {
+		listOf(
+			"-Djarmode=tools", "-jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+			"extract", "--destination", cdsDir.get().asFile.absolutePath,
+		)
+	})
+}
+
+tasks.register<Exec>("cdsArchive") {
+	group = "startup"
+	description = "컨텍스트 refresh 직후 종료하는 학습 실행으로 build/cds/application.jsa를 생성합니다."
+	dependsOn("extractBootJar")
+	workingDir(cdsDir)
+	doFirst {
+		executable = cdsLauncher.get().executablePath.asFile.absolutePath
+	}
+	argumentProviders.add(CommandLineArgumentProvider {
+		listOf(
+			"-XX:ArchiveClassesAtExit=application.jsa",
+			"-Dspring.context.exit=onRefresh",
+			"-Dspring.profiles.active=fast-startup",
+			"-jar", tasks.bootJar.get().archiveFileName.get(),
+		)
+	})
+}
+
+// end-to-end 부하 테스트 하네스 (src/loadtest)
+// 예) ./gradlew loadTest -PloadTestArgs="--concurrency=8 --requests=50 --ffmpeg=/opt/homebrew/bin/ffmpeg"
+sourceSets {
+	create("loadtest") {
+		compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+		runtimeClasspath += output + compileClasspath + sourceSets.main.get().runtimeClasspath
+	}
+}
+
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "합성 테스트 영상으로 MediaController 엔드포인트 부하 테스트를 실행하고 build/loadtest/results.tsv에 기록합니다."
+	classpath = sourceSets["loadtest"].runtimeClasspath
+	mainClass.set("com.gdpark.ffmpeg.loadtest.LoadTestRunner")
+	args = (findProperty("loadTestArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
@@ -0,0 +1,39 @@
+package com.gdpark.ffmpeg.dto;
+
+import net.bramp.ffmpeg.FFmpegUtils;
+import net.bramp.ffmpeg.probe.FFmpegProbeResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/** 기록된 ffprobe JSON 출력으로 {@link MediaMetadataResponse#from} 매핑 비용을 측정하는 벤치마크입니다. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MediaMetadataMappingBenchmark {
+
+  private FFmpegProbeResult probeResult;
+
+  @Setup
+  public void setUp() throws IOException {
+    try (var reader =
+        new InputStreamReader(
+            getClass().getResourceAsStream("/fixtures/probe.json"), StandardCharsets.UTF_8)) {
+      probeResult = FFmpegUtils.getGson().fromJson(reader, FFmpegProbeResult.class);
+    }
+  }
+
+  @Benchmark
+  public MediaMetadataResponse from() {
+    return MediaMetadataResponse.from(probeResult);
+  }
+}
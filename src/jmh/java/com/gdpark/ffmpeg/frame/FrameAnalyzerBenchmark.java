@@ -0,0 +1,52 @@
+package com.gdpark.ffmpeg.frame;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FrameEngine} 분석기의 프레임당 처리 시간 벤치마크입니다.
+ *
+ * <p>분석 해상도({@value FrameEngine#WIDTH}x{@value FrameEngine#HEIGHT}) 그레이스케일 프레임 두 개를 고정 시드로 채운 direct
+ * 버퍼에서 실행합니다. `gc` 프로파일러의 `gc.alloc.rate.norm`이 0이어야 프레임당 할당이 없는 것입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FrameAnalyzerBenchmark {
+
+  private ByteBuffer frame;
+  private ByteBuffer previous;
+  private SadAnalyzer sad;
+  private HistogramDifferenceAnalyzer histogram;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    byte[] pixels = new byte[FrameEngine.WIDTH * FrameEngine.HEIGHT];
+    random.nextBytes(pixels);
+    frame = ByteBuffer.allocateDirect(pixels.length).put(pixels).flip();
+    random.nextBytes(pixels);
+    previous = ByteBuffer.allocateDirect(pixels.length).put(pixels).flip();
+    sad = new SadAnalyzer();
+    histogram = new HistogramDifferenceAnalyzer();
+  }
+
+  @Benchmark
+  public double sad() {
+    return sad.analyze(frame, previous);
+  }
+
+  @Benchmark
+  public double histogram() {
+    return histogram.analyze(frame, previous);
+  }
+}
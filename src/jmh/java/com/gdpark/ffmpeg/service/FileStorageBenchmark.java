@@ -0,0 +1,66 @@
+package com.gdpark.ffmpeg.service;
+
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** 업로드 파일 저장({@link FileStorageService#storeFile}) 복사 경로 벤치마크입니다. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileStorageBenchmark {
+
+  @Param({"1048576", "67108864"})
+  int bytes;
+
+  private Path workDir;
+  private FileStorageService fileStorageService;
+  private MockMultipartFile file;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    workDir = Files.createTempDirectory("storage-bench");
+    fileStorageService =
+        new FileStorageService(workDir.toString(), new FfmpegMetrics(new SimpleMeterRegistry()));
+
+    byte[] content = new byte[bytes];
+    new Random(42).nextBytes(content);
+    file = new MockMultipartFile("file", "bench.mp4", "video/mp4", content);
+  }
+
+  @TearDown(Level.Iteration)
+  public void cleanUploads() throws IOException {
+    try (var files = Files.list(workDir.resolve("uploads"))) {
+      for (Path path : (Iterable<Path>) files::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileSystemUtils.deleteRecursively(workDir);
+  }
+
+  @Benchmark
+  public String storeFile() {
+    return fileStorageService.storeFile(file);
+  }
+}
@@ -0,0 +1,62 @@
+package com.gdpark.ffmpeg.service;
+
+import com.gdpark.ffmpeg.util.DoubleArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타임스탬프 정렬/중복 제거 및 구간 생성({@code createSegments}) 벤치마크입니다.
+ *
+ * <p>기록된 ffprobe 출력의 타임스탬프를 고정 시드로 섞고 일부를 중복시켜, 재시도/병합으로 순서가 어긋난 입력을 재현합니다.
+ * {@code createSegments}는 입력을 제자리에서 정렬하므로 매 호출마다 섞인 원본의 복사본을 넘깁니다. (복사 비용 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SceneSegmentBenchmark {
+
+  @Param({"100", "2997"})
+  int size;
+
+  private DoubleArray timestamps;
+  private double totalDuration;
+
+  @Setup
+  public void setUp() throws IOException {
+    DoubleArray recorded = new DoubleArray();
+    try (InputStream in = getClass().getResourceAsStream("/fixtures/frame_pts.txt")) {
+      SceneDetectionService.readTimestamps(in, recorded);
+    }
+
+    double[] input = new double[size + size / 10];
+    for (int i = 0; i < input.length; i++) {
+      input[i] = recorded.get(i < size ? i : i - size); // 뒤쪽은 중복
+    }
+    Random random = new Random(42);
+    for (int i = input.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      double tmp = input[i];
+      input[i] = input[j];
+      input[j] = tmp;
+    }
+    timestamps = DoubleArray.of(input);
+    totalDuration = recorded.get(size - 1) + 1.0;
+  }
+
+  @Benchmark
+  public List<SceneDetectionService.SceneSegment> createSegments() {
+    return SceneDetectionService.createSegments(timestamps.copy(), totalDuration);
+  }
+}
@@ -0,0 +1,79 @@
+package com.gdpark.ffmpeg.service;
+
+import com.gdpark.ffmpeg.util.DoubleArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ffprobe 장면 감지 출력(한 줄에 하나의 `pts_time`) 파싱 벤치마크입니다.
+ *
+ * <p>기록된 per-frame 출력(29.97fps, 100초)을 {@code repeat}번 이어 붙여 긴 영상의 출력을 재현합니다. 바이트 단위
+ * 파서({@code readTimestamps})와 비교할 수 있도록 이전의 `BufferedReader` + `Double.parseDouble` + `List<Double>` 경로를
+ * {@code readTimestampsBoxed}로 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SceneTimestampParseBenchmark {
+
+  @Param({"1", "100"})
+  int repeat;
+
+  private byte[] output;
+
+  @Setup
+  public void setUp() throws IOException {
+    byte[] fixture;
+    try (InputStream in = getClass().getResourceAsStream("/fixtures/frame_pts.txt")) {
+      fixture = in.readAllBytes();
+    }
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(fixture.length * repeat);
+    for (int i = 0; i < repeat; i++) {
+      buffer.write(fixture);
+    }
+    output = buffer.toByteArray();
+  }
+
+  @Benchmark
+  public DoubleArray readTimestamps() throws IOException {
+    DoubleArray timestamps = new DoubleArray();
+    timestamps.add(0.0);
+    SceneDetectionService.readTimestamps(new ByteArrayInputStream(output), timestamps);
+    return timestamps;
+  }
+
+  @Benchmark
+  public List<Double> readTimestampsBoxed() throws IOException {
+    List<Double> timestamps = new ArrayList<>();
+    timestamps.add(0.0);
+    try (var reader =
+        new BufferedReader(new InputStreamReader(new ByteArrayInputStream(output)))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty()) continue;
+        try {
+          timestamps.add(Double.parseDouble(line.trim()));
+        } catch (NumberFormatException e) {
+          // 숫자가 아닌 줄 무시
+        }
+      }
+    }
+    return timestamps;
+  }
+}
@@ -0,0 +1,66 @@
+package com.gdpark.ffmpeg.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 요청별 지연 시간(ns)을 기록하고 처리량과 백분위수(p50/p99/p999)를 계산합니다.
+ *
+ * <p>요청 수가 미리 정해지므로 사전 할당한 `long[]`에 기록하며, 백분위수는 정렬 후 nearest-rank 방식으로 계산합니다.
+ */
+final class LatencyRecorder {
+
+  private final long[] latencies;
+  private int count;
+  private int errors;
+
+  LatencyRecorder(int capacity) {
+    this.latencies = new long[capacity];
+  }
+
+  synchronized void record(long nanos, boolean success) {
+    latencies[count++] = nanos;
+    if (!success) {
+      errors++;
+    }
+  }
+
+  /**
+   * 기록된 지연 시간을 요약합니다.
+   *
+   * @param scenario 시나리오 이름
+   * @param wallNanos 시나리오 전체 소요 시간 (ns)
+   * @return 요약 결과
+   */
+  synchronized Summary summarize(String scenario, long wallNanos) {
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+    return new Summary(
+        scenario,
+        count,
+        errors,
+        count / (wallNanos / 1e9),
+        percentileMillis(sorted, 50.0),
+        percentileMillis(sorted, 99.0),
+        percentileMillis(sorted, 99.9),
+        count == 0 ? 0 : sorted[count - 1] / 1e6);
+  }
+
+  static double percentileMillis(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+    return sorted[Math.max(0, rank - 1)] / 1e6;
+  }
+
+  /** 시나리오별 결과 요약 */
+  record Summary(
+      String scenario,
+      int requests,
+      int errors,
+      double throughput,
+      double p50Ms,
+      double p99Ms,
+      double p999Ms,
+      double maxMs) {}
+}
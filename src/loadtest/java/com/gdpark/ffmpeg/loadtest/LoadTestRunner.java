@@ -0,0 +1,285 @@
+package com.gdpark.ffmpeg.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gdpark.ffmpeg.FfmpegFfprobeApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@code MediaController} 엔드포인트(upload, metadata, audio, scenes)에 대한 end-to-end 부하 테스트 하네스입니다.
+ *
+ * <p>결정적 테스트 영상을 로컬에서 생성하고, 지정한 동시성으로 시나리오별 요청을 보낸 뒤 처리량과 p50/p99/p999 지연 시간을 TSV로
+ * 기록합니다. {@code --base-url}을 지정하지 않으면 애플리케이션을 같은 JVM에서 임의 포트로 기동하므로 외부 서비스가 필요 없습니다.
+ *
+ * <p>사용법: {@code ./gradlew loadTest -PloadTestArgs="--concurrency=8 --requests=50"}
+ *
+ * <ul>
+ *   <li>{@code --base-url}: 대상 서버 (기본: 내장 기동)
+ *   <li>{@code --ffmpeg}, {@code --ffprobe}: 실행 파일 경로 (기본: PATH)
+ *   <li>{@code --concurrency}: 동시 요청 수 (기본 4)
+ *   <li>{@code --requests}: 시나리오당 측정 요청 수 (기본 20)
+ *   <li>{@code --warmup}: 시나리오당 워밍업 요청 수 (기본 2, 측정 제외)
+ *   <li>{@code --scenarios}: 실행할 시나리오 (기본 upload,metadata,audio,scenes)
+ *   <li>{@code --segments}, {@code --segment-seconds}: 테스트 영상 장면 수/장면 길이 (기본 6, 4)
+ *   <li>{@code --threshold}: 장면 감지 임계값 (기본 0.3)
+ *   <li>{@code --work-dir}: 테스트 영상 및 서버 작업 디렉토리 (기본 build/loadtest)
+ *   <li>{@code --out}: 결과 파일 (기본 build/loadtest/results.tsv)
+ * </ul>
+ */
+public final class LoadTestRunner {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String BOUNDARY = "----loadtest-boundary";
+
+  private final Map<String, String> options;
+  private final HttpClient client = HttpClient.newHttpClient();
+  private String baseUrl;
+
+  private LoadTestRunner(Map<String, String> options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        int eq = arg.indexOf('=');
+        options.put(arg.substring(2, eq), arg.substring(eq + 1));
+      }
+    }
+    new LoadTestRunner(options).run();
+  }
+
+  private void run() throws Exception {
+    String ffmpegPath = option("ffmpeg", "ffmpeg");
+    String ffprobePath = option("ffprobe", "ffprobe");
+    int concurrency = Integer.parseInt(option("concurrency", "4"));
+    int requests = Integer.parseInt(option("requests", "20"));
+    int warmup = Integer.parseInt(option("warmup", "2"));
+    int segments = Integer.parseInt(option("segments", "6"));
+    int segmentSeconds = Integer.parseInt(option("segment-seconds", "4"));
+    double threshold = Double.parseDouble(option("threshold", "0.3"));
+    Path workDir = Path.of(option("work-dir", "build/loadtest")).toAbsolutePath();
+    Path out = Path.of(option("out", "build/loadtest/results.tsv"));
+    List<String> scenarios = List.of(option("scenarios", "upload,metadata,audio,scenes").split(","));
+
+    Path media = workDir.resolve(String.format("synthetic_%dx%ds.mp4", segments, segmentSeconds));
+    List<Double> cuts = SyntheticMedia.generate(ffmpegPath, media, segments, segmentSeconds);
+    byte[] uploadBody = multipartBody(Files.readAllBytes(media));
+    System.out.printf("테스트 영상 생성: %s (cuts=%s)%n", media, cuts);
+
+    ConfigurableApplicationContext context = null;
+    baseUrl = options.get("base-url");
+    if (baseUrl == null) {
+      context =
+          new SpringApplication(FfmpegFfprobeApplication.class)
+              .run(
+                  "--server.port=0",
+                  "--ffmpeg.ffmpeg-path=" + ffmpegPath,
+                  "--ffmpeg.ffprobe-path=" + ffprobePath,
+                  "--ffmpeg.work-dir=" + workDir.resolve("server"),
+                  "--logging.level.com.gdpark=INFO");
+      baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    try {
+      // 이후 시나리오의 입력으로 사용할 서버 측 경로
+      String serverPath = MAPPER.readTree(send(uploadRequest(uploadBody)).body()).get("path").asText();
+      String scenesBody =
+          MAPPER.writeValueAsString(Map.of("path", serverPath, "threshold", threshold));
+
+      List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+      int[] detectedScenes = {-1};
+      for (String scenario : scenarios) {
+        Request request =
+            switch (scenario) {
+              case "upload" -> () -> uploadRequest(uploadBody);
+              case "metadata" ->
+                  () ->
+                      HttpRequest.newBuilder(
+                              URI.create(
+                                  baseUrl
+                                      + "/media/metadata?path="
+                                      + URLEncoder.encode(serverPath, StandardCharsets.UTF_8)))
+                          .GET()
+                          .build();
+              case "audio" -> () -> jsonRequest("/media/audio", Map.of("path", serverPath));
+              case "scenes" -> () -> jsonRequest("/media/scenes", scenesBody);
+              default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+            };
+        summaries.add(
+            runScenario(
+                scenario,
+                request,
+                concurrency,
+                warmup,
+                requests,
+                scenario.equals("scenes") ? detectedScenes : null));
+      }
+
+      writeResults(out, summaries, concurrency, requests, segments, segmentSeconds, detectedScenes[0]);
+      Files.readAllLines(out).forEach(System.out::println);
+    } finally {
+      if (context != null) {
+        context.close();
+      }
+    }
+  }
+
+  private LatencyRecorder.Summary runScenario(
+      String scenario,
+      Request request,
+      int concurrency,
+      int warmup,
+      int requests,
+      int[] detectedScenes)
+      throws Exception {
+    for (int i = 0; i < warmup; i++) {
+      send(request.build());
+    }
+
+    LatencyRecorder recorder = new LatencyRecorder(requests);
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    long wallStart = System.nanoTime();
+    try {
+      List<Future<?>> futures = new ArrayList<>(requests);
+      for (int i = 0; i < requests; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  long start = System.nanoTime();
+                  boolean success = false;
+                  try {
+                    HttpResponse<String> response = send(request.build());
+                    success = response.statusCode() / 100 == 2;
+                    if (success && detectedScenes != null) {
+                      detectedScenes[0] = MAPPER.readTree(response.body()).get("totalScenes").asInt();
+                    }
+                  } catch (Exception e) {
+                    System.err.printf("[%s] 요청 실패: %s%n", scenario, e.getMessage());
+                  }
+                  recorder.record(System.nanoTime() - start, success);
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    return recorder.summarize(scenario, System.nanoTime() - wallStart);
+  }
+
+  /**
+   * 같은 하드웨어에서 빌드 간 비교(diff)가 쉽도록 고정된 컬럼 순서/소수점 자릿수의 TSV로 결과를 기록합니다.
+   * 실행 시각처럼 매번 달라지는 값은 기록하지 않습니다.
+   */
+  private static void writeResults(
+      Path out,
+      List<LatencyRecorder.Summary> summaries,
+      int concurrency,
+      int requests,
+      int segments,
+      int segmentSeconds,
+      int detectedScenes)
+      throws IOException {
+    List<String> lines = new ArrayList<>();
+    lines.add("# ffmpeg-ffprobe load test");
+    lines.add(
+        String.format(
+            Locale.ROOT,
+            "# cores=%d java=%s concurrency=%d requests=%d media=%dx%ds",
+            Runtime.getRuntime().availableProcessors(),
+            System.getProperty("java.version"),
+            concurrency,
+            requests,
+            segments,
+            segmentSeconds));
+    if (detectedScenes >= 0) {
+      lines.add(String.format("# scenes expected=%d detected=%d", segments, detectedScenes));
+    }
+    lines.add("scenario\trequests\terrors\tthroughput_rps\tp50_ms\tp99_ms\tp999_ms\tmax_ms");
+    for (LatencyRecorder.Summary s : summaries) {
+      lines.add(
+          String.format(
+              Locale.ROOT,
+              "%s\t%d\t%d\t%.2f\t%.1f\t%.1f\t%.1f\t%.1f",
+              s.scenario(),
+              s.requests(),
+              s.errors(),
+              s.throughput(),
+              s.p50Ms(),
+              s.p99Ms(),
+              s.p999Ms(),
+              s.maxMs()));
+    }
+    if (out.toAbsolutePath().getParent() != null) {
+      Files.createDirectories(out.toAbsolutePath().getParent());
+    }
+    Files.write(out, lines);
+  }
+
+  private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  private HttpRequest uploadRequest(byte[] body) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + "/media/upload"))
+        .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+        .build();
+  }
+
+  private HttpRequest jsonRequest(String path, Object body) {
+    try {
+      String json = body instanceof String s ? s : MAPPER.writeValueAsString(body);
+      return HttpRequest.newBuilder(URI.create(baseUrl + path))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(json))
+          .build();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] multipartBody(byte[] content) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+    body.write(
+        ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"synthetic.mp4\"\r\n"
+                + "Content-Type: video/mp4\r\n\r\n")
+            .getBytes(StandardCharsets.UTF_8));
+    body.write(content);
+    body.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    return body.toByteArray();
+  }
+
+  private String option(String key, String defaultValue) {
+    return options.getOrDefault(key, defaultValue);
+  }
+
+  /** 요청마다 새 HttpRequest를 만드는 팩토리 */
+  @FunctionalInterface
+  private interface Request {
+    HttpRequest build();
+  }
+}
@@ -0,0 +1,117 @@
+package com.gdpark.ffmpeg.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ffmpeg lavfi 테스트 소스로 장면 전환 위치와 길이를 알고 있는 결정적(deterministic) 테스트 영상을 생성합니다.
+ *
+ * <p>서로 다른 테스트 패턴을 {@code segmentSeconds} 길이로 이어 붙여 {@code segments}개의 하드 컷을 만들고, 장면마다 다른
+ * 주파수의 사인파 오디오를 넣습니다. bitexact/단일 스레드 인코딩으로 같은 ffmpeg 버전에서는 항상 같은 파일이 생성됩니다.
+ */
+public final class SyntheticMedia {
+
+  /** 장면별로 순환하며 사용하는 lavfi 비디오 소스 (인접 장면끼리 시각적으로 확연히 다름) */
+  private static final String[] VIDEO_SOURCES = {
+    "testsrc2", "smptehdbars", "color=c=navy", "rgbtestsrc", "color=c=darkred", "pal100bars"
+  };
+
+  private static final int WIDTH = 640;
+  private static final int HEIGHT = 360;
+  private static final int FPS = 30;
+
+  private SyntheticMedia() {}
+
+  /**
+   * 테스트 영상을 생성하고, 같은 디렉토리에 예상 장면 전환 시간 파일(`*.cuts.txt`)을 함께 기록합니다.
+   *
+   * @param ffmpegPath ffmpeg 실행 파일 경로
+   * @param output 출력 mp4 경로
+   * @param segments 장면 수
+   * @param segmentSeconds 장면당 길이 (초)
+   * @return 예상 장면 전환 시간(초) 목록 (0.0 제외)
+   * @throws IOException ffmpeg 실행 실패 시 발생
+   */
+  public static List<Double> generate(
+      String ffmpegPath, Path output, int segments, int segmentSeconds) throws IOException {
+    List<String> command = new ArrayList<>(List.of(ffmpegPath, "-y", "-v", "error"));
+    StringBuilder filter = new StringBuilder();
+    List<Double> cuts = new ArrayList<>();
+
+    for (int i = 0; i < segments; i++) {
+      String source = VIDEO_SOURCES[i % VIDEO_SOURCES.length];
+      String sep = source.contains("=") ? ":" : "=";
+      command.addAll(
+          List.of(
+              "-f",
+              "lavfi",
+              "-i",
+              String.format(
+                  "%s%ssize=%dx%d:rate=%d:duration=%d",
+                  source, sep, WIDTH, HEIGHT, FPS, segmentSeconds)));
+      command.addAll(
+          List.of(
+              "-f",
+              "lavfi",
+              "-i",
+              String.format(
+                  "sine=frequency=%d:sample_rate=48000:duration=%d", 220 + 110 * i, segmentSeconds)));
+      filter.append(String.format("[%d:v]format=yuv420p,setsar=1[v%d];", i * 2, i));
+      if (i > 0) {
+        cuts.add((double) (i * segmentSeconds));
+      }
+    }
+    for (int i = 0; i < segments; i++) {
+      filter.append(String.format("[v%d][%d:a]", i, i * 2 + 1));
+    }
+    filter.append(String.format("concat=n=%d:v=1:a=1[v][a]", segments));
+
+    command.addAll(
+        List.of(
+            "-filter_complex",
+            filter.toString(),
+            "-map",
+            "[v]",
+            "-map",
+            "[a]",
+            "-c:v",
+            "libx264",
+            "-preset",
+            "ultrafast",
+            "-g",
+            String.valueOf(FPS),
+            "-c:a",
+            "aac",
+            "-threads",
+            "1",
+            "-fflags",
+            "+bitexact",
+            "-flags:v",
+            "+bitexact",
+            "-flags:a",
+            "+bitexact",
+            output.toString()));
+
+    Files.createDirectories(output.toAbsolutePath().getParent());
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    String log = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    try {
+      if (process.waitFor() != 0) {
+        throw new IOException("테스트 영상 생성 실패: " + log);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("테스트 영상 생성 중 인터럽트 발생", e);
+    }
+
+    List<String> lines = new ArrayList<>();
+    cuts.forEach(cut -> lines.add(String.format(Locale.ROOT, "%.3f", cut)));
+    Files.write(Path.of(output + ".cuts.txt"), lines);
+    return cuts;
+  }
+}
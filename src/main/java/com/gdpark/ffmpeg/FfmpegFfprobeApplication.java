@@ -1,28 +1,31 @@
 package com.gdpark.ffmpeg;
 
-import com.gdpark.ffmpeg.util.Smile;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 /**
  * FFmpeg/FFprobe 기반 미디어 처리 애플리케이션의 엔트리 포인트입니다.
  *
- * <p>Spring Boot 애플리케이션을 구동하며, 시작 시 Smile ML 테스트 코드를 실행합니다.
+ * <p>Spring Boot 애플리케이션을 구동합니다. ML 모델 학습은 시작 경로에서 수행하지 않으며, 오프라인 CLI(Gradle `trainIrisModel`,
+ * `trainSceneModel` 태스크)로 학습/직렬화한 모델을 {@link com.gdpark.ffmpeg.ml.ModelRegistry}가 로드합니다.
+ *
+ * <p>시작 단계별 소요 시간(startup timeline)을 버퍼에 기록하며, 준비 완료 시 {@link
+ * com.gdpark.ffmpeg.config.StartupTimelineLogger}가 요약을 로그로 남깁니다.
  */
 @SpringBootApplication
 public class FfmpegFfprobeApplication {
 
-  public static void main(String[] args) {
-    SpringApplication.run(FfmpegFfprobeApplication.class, args);
+  /** 시작 단계 기록 버퍼 크기 */
+  static final int STARTUP_BUFFER_CAPACITY = 4096;
 
-    Smile smile = new Smile();
+  public static void main(String[] args) {
+    createApplication().run(args);
+  }
 
-    try {
-      System.out.println("--- Smile ML Start");
-      smile.smileRun();
-      System.out.println("--- Smile ML End");
-    } catch (Exception e) {
-      System.out.println("--- Smile ML Error" + e.getMessage());
-    }
+  static SpringApplication createApplication() {
+    SpringApplication application = new SpringApplication(FfmpegFfprobeApplication.class);
+    application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_BUFFER_CAPACITY));
+    return application;
   }
 }
@@ -0,0 +1,268 @@
+package com.gdpark.ffmpeg.audio;
+
+import com.gdpark.ffmpeg.util.DoubleArray;
+
+/**
+ * ffmpeg가 파이프로 출력하는 PCM(`s16le`, 48kHz, interleaved)을 한 번의 스트리밍 패스로 분석합니다.
+ *
+ * <p>입력 바이트를 샘플 단위로 바로 처리하므로 디코딩된 오디오 전체를 메모리나 임시 파일에 두지 않으며, 결과는 윈도우 수에
+ * 비례하는 primitive 배열에만 저장합니다.
+ *
+ * <ul>
+ *   <li>RMS/peak 엔벨로프: 윈도우별 dBFS
+ *   <li>무음 구간: RMS가 임계값 미만인 윈도우가 최소 길이 이상 이어진 구간
+ *   <li>통합 라우드니스(LUFS): ITU-R BS.1770 K-weighting + 400ms 블록(75% 겹침) 절대(-70 LUFS)/상대(-10 LU) 게이팅
+ * </ul>
+ */
+public final class PcmAnalyzer {
+
+  /** 분석 샘플레이트 (K-weighting 계수가 48kHz 기준) */
+  public static final int SAMPLE_RATE = 48_000;
+
+  /** 무음(0)을 dB로 표현할 때의 하한 */
+  public static final double MIN_DB = -120.0;
+
+  /** 최소 윈도우 길이 (초). 엔벨로프는 윈도우마다 값을 저장하므로 너무 짧으면 결과가 샘플 수에 비례해 커짐 */
+  public static final double MIN_WINDOW_SECONDS = 0.01;
+
+  // ITU-R BS.1770 K-weighting 필터 계수 (48kHz): 1단 high-shelf, 2단 high-pass
+  private static final double[] SHELF_B = {1.53512485958697, -2.69169618940638, 1.19839281085285};
+  private static final double[] SHELF_A = {-1.69065929318241, 0.73248077421585};
+  private static final double[] HIGHPASS_B = {1.0, -2.0, 1.0};
+  private static final double[] HIGHPASS_A = {-1.99004745483398, 0.99007225036621};
+
+  /** 게이팅 블록(400ms)을 이루는 100ms 서브 블록 수 */
+  private static final int SUB_BLOCKS_PER_BLOCK = 4;
+  private static final int SUB_BLOCK_FRAMES = SAMPLE_RATE / 10;
+
+  private final int channels;
+  private final int windowFrames;
+  private final double silenceThresholdDb;
+  private final double minSilenceSeconds;
+
+  // 필터 상태 (채널별 transposed direct form II)
+  private final double[] shelfZ1;
+  private final double[] shelfZ2;
+  private final double[] highpassZ1;
+  private final double[] highpassZ2;
+
+  // 바이트 -> 샘플 디코딩 상태 (read 경계에서 잘린 샘플 처리)
+  private int pendingLowByte = -1;
+  private int channel;
+
+  private long frames;
+  private int windowFrameCount;
+  private double windowSumSquares;
+  private double windowPeak;
+  private int subBlockFrameCount;
+  private double subBlockSum;
+  private double peak;
+
+  private double silenceStart = Double.NaN;
+
+  private final DoubleArray rmsEnvelope = new DoubleArray(1024);
+  private final DoubleArray peakEnvelope = new DoubleArray(1024);
+  private final DoubleArray silenceStarts = new DoubleArray();
+  private final DoubleArray silenceEnds = new DoubleArray();
+  private final DoubleArray subBlockEnergies = new DoubleArray(1024);
+
+  /**
+   * @param channels 채널 수 (interleaved)
+   * @param windowSeconds 엔벨로프/무음 판정 윈도우 길이 (초)
+   * @param silenceThresholdDb 무음으로 볼 RMS 상한 (dBFS)
+   * @param minSilenceSeconds 무음 구간으로 인정할 최소 길이 (초)
+   * @throws IllegalArgumentException 윈도우가 {@value #MIN_WINDOW_SECONDS}초보다 짧은 경우
+   */
+  public PcmAnalyzer(
+      int channels, double windowSeconds, double silenceThresholdDb, double minSilenceSeconds) {
+    if (!(windowSeconds >= MIN_WINDOW_SECONDS)) {
+      throw new IllegalArgumentException(
+          "윈도우 길이는 " + MIN_WINDOW_SECONDS + "초 이상이어야 합니다: " + windowSeconds);
+    }
+    this.channels = channels;
+    this.windowFrames = (int) Math.round(windowSeconds * SAMPLE_RATE);
+    this.silenceThresholdDb = silenceThresholdDb;
+    this.minSilenceSeconds = minSilenceSeconds;
+    this.shelfZ1 = new double[channels];
+    this.shelfZ2 = new double[channels];
+    this.highpassZ1 = new double[channels];
+    this.highpassZ2 = new double[channels];
+  }
+
+  /**
+   * PCM 바이트를 처리합니다. 샘플/프레임이 read 경계에서 잘려도 다음 호출에서 이어서 처리합니다.
+   *
+   * @param buf 버퍼 (호출 후 재사용 가능)
+   * @param off 시작 위치
+   * @param len 바이트 수
+   */
+  public void accept(byte[] buf, int off, int len) {
+    int i = off;
+    int end = off + len;
+    if (pendingLowByte >= 0 && i < end) {
+      sample((short) ((buf[i++] << 8) | pendingLowByte));
+      pendingLowByte = -1;
+    }
+    for (; i + 1 < end; i += 2) {
+      sample((short) ((buf[i + 1] << 8) | (buf[i] & 0xFF)));
+    }
+    if (i < end) {
+      pendingLowByte = buf[i] & 0xFF;
+    }
+  }
+
+  private void sample(short value) {
+    double x = value / 32768.0;
+    int ch = channel;
+
+    double abs = Math.abs(x);
+    if (abs > windowPeak) {
+      windowPeak = abs;
+    }
+    windowSumSquares += x * x;
+
+    // K-weighting (2단 biquad)
+    double y1 = SHELF_B[0] * x + shelfZ1[ch];
+    shelfZ1[ch] = SHELF_B[1] * x - SHELF_A[0] * y1 + shelfZ2[ch];
+    shelfZ2[ch] = SHELF_B[2] * x - SHELF_A[1] * y1;
+    double y2 = HIGHPASS_B[0] * y1 + highpassZ1[ch];
+    highpassZ1[ch] = HIGHPASS_B[1] * y1 - HIGHPASS_A[0] * y2 + highpassZ2[ch];
+    highpassZ2[ch] = HIGHPASS_B[2] * y1 - HIGHPASS_A[1] * y2;
+    subBlockSum += y2 * y2; // 채널별 가중치 1.0 (L/R/C)
+
+    if (++channel < channels) {
+      return;
+    }
+    channel = 0;
+    frames++;
+
+    if (++subBlockFrameCount == SUB_BLOCK_FRAMES) {
+      subBlockEnergies.add(subBlockSum / SUB_BLOCK_FRAMES);
+      subBlockSum = 0;
+      subBlockFrameCount = 0;
+    }
+    if (++windowFrameCount == windowFrames) {
+      closeWindow();
+    }
+  }
+
+  private void closeWindow() {
+    double windowStart = (double) (frames - windowFrameCount) / SAMPLE_RATE;
+    double rmsDb = toDb(Math.sqrt(windowSumSquares / ((double) windowFrameCount * channels)));
+    rmsEnvelope.add(rmsDb);
+    peakEnvelope.add(toDb(windowPeak));
+    peak = Math.max(peak, windowPeak);
+
+    if (rmsDb < silenceThresholdDb) {
+      if (Double.isNaN(silenceStart)) {
+        silenceStart = windowStart;
+      }
+    } else {
+      closeSilence(windowStart);
+    }
+
+    windowFrameCount = 0;
+    windowSumSquares = 0;
+    windowPeak = 0;
+  }
+
+  private void closeSilence(double end) {
+    if (!Double.isNaN(silenceStart) && end - silenceStart >= minSilenceSeconds) {
+      silenceStarts.add(silenceStart);
+      silenceEnds.add(end);
+    }
+    silenceStart = Double.NaN;
+  }
+
+  /** 스트림 끝에서 남은 윈도우와 열린 무음 구간을 닫습니다. */
+  public void finish() {
+    if (windowFrameCount > 0) {
+      closeWindow();
+    }
+    closeSilence(duration());
+  }
+
+  /** 처리한 오디오 길이 (초) */
+  public double duration() {
+    return (double) frames / SAMPLE_RATE;
+  }
+
+  /** 엔벨로프 윈도우 길이 (초) */
+  public double windowSeconds() {
+    return (double) windowFrames / SAMPLE_RATE;
+  }
+
+  public DoubleArray rmsEnvelope() {
+    return rmsEnvelope;
+  }
+
+  public DoubleArray peakEnvelope() {
+    return peakEnvelope;
+  }
+
+  /** 무음 구간 시작 시점 (초, {@link #silenceEnds()}와 같은 순서) */
+  public DoubleArray silenceStarts() {
+    return silenceStarts;
+  }
+
+  /** 무음 구간 종료 시점 (초) */
+  public DoubleArray silenceEnds() {
+    return silenceEnds;
+  }
+
+  /** 전체 샘플 peak (dBFS) */
+  public double peakDb() {
+    return toDb(peak);
+  }
+
+  /**
+   * ITU-R BS.1770 통합 라우드니스를 계산합니다.
+   *
+   * @return LUFS, 게이팅을 통과한 블록이 없으면 {@link Double#NEGATIVE_INFINITY}
+   */
+  public double integratedLoudness() {
+    int blocks = subBlockEnergies.size() - SUB_BLOCKS_PER_BLOCK + 1;
+    if (blocks <= 0) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    double[] blockEnergies = new double[blocks];
+    double rolling = 0;
+    for (int i = 0; i < subBlockEnergies.size(); i++) {
+      rolling += subBlockEnergies.get(i);
+      if (i >= SUB_BLOCKS_PER_BLOCK) {
+        rolling -= subBlockEnergies.get(i - SUB_BLOCKS_PER_BLOCK);
+      }
+      if (i >= SUB_BLOCKS_PER_BLOCK - 1) {
+        blockEnergies[i - SUB_BLOCKS_PER_BLOCK + 1] = rolling / SUB_BLOCKS_PER_BLOCK;
+      }
+    }
+
+    double absoluteGated = gatedMeanEnergy(blockEnergies, -70.0);
+    if (absoluteGated <= 0) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    double relativeGate = loudness(absoluteGated) - 10.0;
+    double relativeGated = gatedMeanEnergy(blockEnergies, Math.max(-70.0, relativeGate));
+    return relativeGated > 0 ? loudness(relativeGated) : Double.NEGATIVE_INFINITY;
+  }
+
+  private static double gatedMeanEnergy(double[] blockEnergies, double gateLufs) {
+    double sum = 0;
+    int count = 0;
+    for (double energy : blockEnergies) {
+      if (energy > 0 && loudness(energy) > gateLufs) {
+        sum += energy;
+        count++;
+      }
+    }
+    return count == 0 ? 0 : sum / count;
+  }
+
+  private static double loudness(double meanSquare) {
+    return -0.691 + 10 * Math.log10(meanSquare);
+  }
+
+  private static double toDb(double amplitude) {
+    return amplitude > 0 ? Math.max(MIN_DB, 20 * Math.log10(amplitude)) : MIN_DB;
+  }
+}
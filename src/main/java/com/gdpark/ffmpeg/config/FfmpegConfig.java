@@ -1,5 +1,7 @@
 package com.gdpark.ffmpeg.config;
 
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import com.gdpark.ffmpeg.metrics.MeteredProcessFunction;
 import net.bramp.ffmpeg.FFmpeg;
 import net.bramp.ffmpeg.FFprobe;
 import org.slf4j.Logger;
@@ -11,24 +13,36 @@ import org.springframework.context.annotation.Configuration;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * FFmpeg/FFprobe 빈(Bean) 설정 클래스입니다.
  * <p>
  * 라이브러리 wrapper 객체를 빈으로 등록하고, 작업 디렉토리를 초기화합니다.
  * </p>
+ * <p>
+ * FFmpeg/FFprobe 생성자는 실행 파일 버전을 확인하기 위해 프로세스를 실행하므로, 두 빈의 초기화(검증)는 병렬로 수행합니다.
+ * 서비스들은 {@code @Lazy} 주입으로 이 빈들을 참조하므로, `fast-startup` 프로파일(지연 초기화)에서는 실제 첫 사용 시점까지
+ * 검증이 미뤄집니다.
+ * </p>
  */
 @Configuration
-@EnableConfigurationProperties(FfmpegProperties.class)
+@EnableConfigurationProperties({FfmpegProperties.class, ModelProperties.class})
 public class FfmpegConfig {
 
     private static final Logger log = LoggerFactory.getLogger(FfmpegConfig.class);
 
     private final FfmpegProperties ffmpegProperties;
+    private final FfmpegMetrics ffmpegMetrics;
+
+    private CompletableFuture<FFprobe> ffprobeFuture;
 
     @Autowired
-    public FfmpegConfig(FfmpegProperties ffmpegProperties) {
+    public FfmpegConfig(FfmpegProperties ffmpegProperties, FfmpegMetrics ffmpegMetrics) {
         this.ffmpegProperties = ffmpegProperties;
+        this.ffmpegMetrics = ffmpegMetrics;
     }
 
     /**
@@ -39,12 +53,15 @@ public class FfmpegConfig {
      */
     @Bean
     public FFmpeg ffmpeg() throws IOException {
+        // FFprobe 검증을 백그라운드에서 동시에 시작
+        startFfprobe();
+
         String path = ffmpegProperties.ffmpegPath();
         if (path == null || path.isBlank()) {
             path = "ffmpeg"; // 시스템 경로 시도
         }
         log.info("FFmpeg 초기화: Path={}", path);
-        return new FFmpeg(path);
+        return new FFmpeg(path, new MeteredProcessFunction(ffmpegMetrics));
     }
 
     /**
@@ -55,12 +72,37 @@ public class FfmpegConfig {
      */
     @Bean
     public FFprobe ffprobe() throws IOException {
-        String path = ffmpegProperties.ffprobePath();
-        if (path == null || path.isBlank()) {
-            path = "ffprobe"; // 시스템 경로 시도
+        try {
+            return startFfprobe().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw new IOException("FFprobe 초기화 실패", e.getCause());
+        }
+    }
+
+    /**
+     * FFprobe 초기화를 비동기로 시작합니다. 이미 시작된 경우 진행 중인 작업을 반환합니다.
+     *
+     * @return FFprobe 초기화 작업
+     */
+    private synchronized CompletableFuture<FFprobe> startFfprobe() {
+        if (ffprobeFuture == null) {
+            ffprobeFuture = CompletableFuture.supplyAsync(() -> {
+                String path = ffmpegProperties.ffprobePath();
+                if (path == null || path.isBlank()) {
+                    path = "ffprobe"; // 시스템 경로 시도
+                }
+                log.info("FFprobe 초기화: Path={}", path);
+                try {
+                    return new FFprobe(path, new MeteredProcessFunction(ffmpegMetrics));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
         }
-        log.info("FFprobe 초기화: Path={}", path);
-        return new FFprobe(path);
+        return ffprobeFuture;
     }
 
     /**
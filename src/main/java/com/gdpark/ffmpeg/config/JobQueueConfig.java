@@ -0,0 +1,69 @@
+package com.gdpark.ffmpeg.config;
+
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import com.gdpark.ffmpeg.queue.FileSystemJobQueue;
+import com.gdpark.ffmpeg.queue.InMemoryJobQueue;
+import com.gdpark.ffmpeg.queue.JobQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * 작업 큐 빈(Bean) 설정 클래스입니다.
+ * <p>
+ * `jobs.queue=filesystem`이면 작업 디렉토리 아래 `queue` 디렉토리를 저장소로 사용하므로, 같은 작업 디렉토리를 공유하는
+ * 여러 노드(또는 한 머신의 여러 JVM)가 장면 감지/클립/오디오 작업을 나눠 처리합니다.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(JobQueueProperties.class)
+public class JobQueueConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JobQueueConfig.class);
+
+    private final JobQueueProperties jobQueueProperties;
+    private final FfmpegMetrics ffmpegMetrics;
+
+    @Autowired
+    public JobQueueConfig(JobQueueProperties jobQueueProperties, FfmpegMetrics ffmpegMetrics) {
+        this.jobQueueProperties = jobQueueProperties;
+        this.ffmpegMetrics = ffmpegMetrics;
+    }
+
+    /**
+     * 설정에 따른 작업 큐 구현을 빈으로 등록합니다.
+     *
+     * @param workDir 작업 디렉토리 경로
+     * @return 작업 큐
+     * @throws IOException 큐 디렉토리 생성 실패 시 발생
+     */
+    @Bean
+    public JobQueue jobQueue(@Value("${ffmpeg.work-dir}") String workDir) throws IOException {
+        String nodeId = jobQueueProperties.nodeId();
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = System.getenv().getOrDefault("HOSTNAME", "local") + "-" + ProcessHandle.current().pid();
+        }
+
+        JobQueue queue = switch (jobQueueProperties.queue()) {
+            case "memory" -> new InMemoryJobQueue(nodeId);
+            case "filesystem" -> new FileSystemJobQueue(
+                    Paths.get(workDir, "queue"),
+                    nodeId,
+                    jobQueueProperties.leaseTtl(),
+                    jobQueueProperties.heartbeatInterval(),
+                    jobQueueProperties.maxAttempts());
+            default -> throw new IllegalArgumentException("지원하지 않는 작업 큐: " + jobQueueProperties.queue());
+        };
+        log.info("작업 큐 초기화: Queue={}, Node={}", jobQueueProperties.queue(), nodeId);
+
+        ffmpegMetrics.registerQueueDepth(jobQueueProperties.queue(), queue, JobQueue::depth);
+        return queue;
+    }
+}
@@ -0,0 +1,33 @@
+package com.gdpark.ffmpeg.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 작업 큐 및 작업자 관련 설정 속성을 정의하는 레코드입니다.
+ * <p>
+ * `application.yml`의 `jobs` 프리픽스를 가진 설정값들과 매핑됩니다.
+ * </p>
+ *
+ * @param queue             큐 구현 (`memory`: 단일 노드, `filesystem`: 작업 디렉토리를 공유하는 여러 노드)
+ * @param nodeId            노드 식별자 (비워두면 호스트 이름과 PID로 생성)
+ * @param workers           이 노드에서 큐를 처리할 작업자 스레드 수 (0이면 작업을 등록만 함)
+ * @param pollInterval      대기 중인 작업이 없을 때 다시 조회하기까지의 간격
+ * @param leaseTtl          하트비트 없이 작업 점유가 유지되는 시간 (`filesystem` 전용)
+ * @param heartbeatInterval 작업 점유 갱신 주기 (`filesystem` 전용, leaseTtl보다 짧아야 함)
+ * @param maxAttempts       작업당 최대 점유 시도 횟수, 점유가 이만큼 만료되면 실패 처리 (`filesystem` 전용)
+ * @param clipTimeout       장면 감지 요청이 클립 작업 완료를 기다리는 최대 시간 (넘으면 남은 장면은 실패 처리)
+ */
+@ConfigurationProperties(prefix = "jobs")
+public record JobQueueProperties(
+        @DefaultValue("memory") String queue,
+        String nodeId,
+        @DefaultValue("1") int workers,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("30s") Duration leaseTtl,
+        @DefaultValue("10s") Duration heartbeatInterval,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("30m") Duration clipTimeout) {
+}
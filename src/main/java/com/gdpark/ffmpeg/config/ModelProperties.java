@@ -0,0 +1,20 @@
+package com.gdpark.ffmpeg.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 사전 학습된 ML 모델 관련 설정 속성을 정의하는 레코드입니다.
+ * <p>
+ * `application.yml`의 `ml` 프리픽스를 가진 설정값들과 매핑됩니다.
+ * </p>
+ *
+ * @param models 모델 이름별 직렬화된 모델 파일 경로 (예: `scene-boundary`)
+ * @param warmup true이면 애플리케이션 준비 완료 후 백그라운드에서 모델을 미리 로드, false이면 최초 사용 시 로드
+ */
+@ConfigurationProperties(prefix = "ml")
+public record ModelProperties(
+        Map<String, String> models,
+        boolean warmup) {
+}
@@ -0,0 +1,53 @@
+package com.gdpark.ffmpeg.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * 애플리케이션 준비 완료 시 시작 소요 시간과 가장 오래 걸린 시작 단계를 로그로 남기는 컴포넌트입니다.
+ * <p>
+ * {@link BufferingApplicationStartup}이 설정된 경우에만 단계별 기록을 출력하며, 버퍼는 비우지 않습니다.
+ * </p>
+ */
+@Component
+public class StartupTimelineLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimelineLogger.class);
+
+    /** 로그로 남길 상위 단계 수 */
+    private static final int TOP_STEPS = 10;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        log.info("애플리케이션 준비 완료: Time-to-ready={}ms", event.getTimeTaken().toMillis());
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(TOP_STEPS)
+                .forEach(e -> log.info("시작 단계: {}ms {} [{}]",
+                        e.getDuration().toMillis(), e.getStartupStep().getName(), tags(e.getStartupStep())));
+    }
+
+    private static String tags(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,68 @@
+package com.gdpark.ffmpeg.controller;
+
+import com.gdpark.ffmpeg.dto.DetectSceneRequest;
+import com.gdpark.ffmpeg.dto.ExtractAudioRequest;
+import com.gdpark.ffmpeg.queue.JobQueue;
+import com.gdpark.ffmpeg.queue.JobStatus;
+import com.gdpark.ffmpeg.queue.WorkItem;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/media/jobs")
+@Tag(
+    name = "작업 큐 컨트롤러 (JobController)",
+    description = "장면 감지/오디오 추출을 작업 큐에 등록하고 상태를 조회하는 비동기 API (여러 노드가 나눠 처리)")
+public class JobController {
+
+  private static final Logger log = LoggerFactory.getLogger(JobController.class);
+
+  private final JobQueue jobQueue;
+
+  @Autowired
+  public JobController(JobQueue jobQueue) {
+    this.jobQueue = jobQueue;
+  }
+
+  @Operation(summary = "장면 분석 작업 등록", description = "장면 분석을 작업 큐에 등록하고 작업 ID를 반환합니다.")
+  @PostMapping("/scenes")
+  public ResponseEntity<Map<String, String>> submitScenes(@RequestBody DetectSceneRequest request)
+      throws IOException {
+    String jobId =
+        jobQueue.submit(
+            WorkItem.scenes(
+                request.path(),
+                request.threshold(),
+                request.snapToSilence(),
+                request.deduplicate()));
+    log.info("장면 분석 작업 등록: Job={}, Input={}", jobId, request.path());
+    return ResponseEntity.accepted().body(Map.of("jobId", jobId));
+  }
+
+  @Operation(summary = "오디오 추출 작업 등록", description = "오디오 추출을 작업 큐에 등록하고 작업 ID를 반환합니다.")
+  @PostMapping("/audio")
+  public ResponseEntity<Map<String, String>> submitAudio(@RequestBody ExtractAudioRequest request)
+      throws IOException {
+    String jobId = jobQueue.submit(WorkItem.audio(request.path()));
+    log.info("오디오 추출 작업 등록: Job={}, Input={}", jobId, request.path());
+    return ResponseEntity.accepted().body(Map.of("jobId", jobId));
+  }
+
+  @Operation(summary = "작업 상태 조회", description = "작업 상태(PENDING/RUNNING/DONE/FAILED)와 결과를 조회합니다.")
+  @GetMapping("/{jobId}")
+  public ResponseEntity<JobStatus> getStatus(
+      @Parameter(description = "작업 ID") @PathVariable String jobId) throws IOException {
+    return jobQueue.status(jobId)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+}
@@ -1,10 +1,13 @@
 package com.gdpark.ffmpeg.controller;
 
+import com.gdpark.ffmpeg.audio.PcmAnalyzer;
 import com.gdpark.ffmpeg.dto.*;
+import com.gdpark.ffmpeg.service.AudioAnalysisService;
 import com.gdpark.ffmpeg.service.FileStorageService;
 import com.gdpark.ffmpeg.service.MediaInfoService;
 import com.gdpark.ffmpeg.service.MediaProcessingService;
 import com.gdpark.ffmpeg.service.SceneDetectionService;
+import com.gdpark.ffmpeg.service.TailSceneDetectionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,17 +37,23 @@ public class MediaController {
   private final MediaProcessingService mediaProcessingService;
   private final SceneDetectionService sceneDetectionService;
   private final FileStorageService fileStorageService;
+  private final TailSceneDetectionService tailSceneDetectionService;
+  private final AudioAnalysisService audioAnalysisService;
 
   @Autowired
   public MediaController(
       MediaInfoService mediaInfoService,
       MediaProcessingService mediaProcessingService,
       SceneDetectionService sceneDetectionService,
-      FileStorageService fileStorageService) {
+      FileStorageService fileStorageService,
+      TailSceneDetectionService tailSceneDetectionService,
+      AudioAnalysisService audioAnalysisService) {
     this.mediaInfoService = mediaInfoService;
     this.mediaProcessingService = mediaProcessingService;
     this.sceneDetectionService = sceneDetectionService;
     this.fileStorageService = fileStorageService;
+    this.tailSceneDetectionService = tailSceneDetectionService;
+    this.audioAnalysisService = audioAnalysisService;
   }
 
   @Operation(
@@ -80,14 +89,49 @@ public class MediaController {
     return ResponseEntity.ok(Map.of("message", "오디오 추출 완료", "outputPath", outputPath));
   }
 
+  @Operation(
+      summary = "오디오 분석",
+      description = "오디오 트랙을 임시 파일 없이 스트리밍으로 분석하여 RMS/peak 엔벨로프, 무음 구간, 통합 라우드니스(LUFS)를 반환합니다.")
+  @GetMapping("/audio/analysis")
+  public ResponseEntity<AudioAnalysisResponse> analyzeAudio(
+      @Parameter(description = "파일 경로 (서버 절대 경로)") @RequestParam String path,
+      @Parameter(description = "엔벨로프 윈도우 길이 (초, 0.01 이상)") @RequestParam(defaultValue = "0.05")
+          double window)
+      throws IOException {
+    if (!(window >= PcmAnalyzer.MIN_WINDOW_SECONDS)) {
+      // 윈도우마다 엔벨로프 값이 생기므로 너무 짧은 윈도우는 메모리/응답 크기가 샘플 수에 비례
+      log.warn("오디오 분석 요청 거부 (윈도우가 너무 짧음): Window={}", window);
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(audioAnalysisService.analyze(path, window));
+  }
+
   @Operation(
       summary = "상세 장면 분석",
-      description = "영상 내 장면 전환을 감지하고, 각 장면의 비디오 클립과 썸네일을 생성하여 상세 정보를 반환합니다.")
+      description =
+          "영상 내 장면 전환을 감지하고, 각 장면의 비디오 클립과 썸네일을 생성하여 상세 정보를 반환합니다. "
+              + "snapToSilence=true이면 장면 경계를 근처의 무음 구간으로 보정하고, "
+              + "deduplicate=true이면 거의 같은 장면은 클립을 새로 만들지 않고 앞선 장면을 참조합니다.")
   @PostMapping("/scenes")
   public ResponseEntity<SceneDetectionResponse> detectScenes(
       @RequestBody DetectSceneRequest request) throws IOException {
     SceneDetectionResponse response =
-        sceneDetectionService.detectScenes(request.path(), request.threshold());
+        sceneDetectionService.detectScenes(
+            request.path(), request.threshold(), request.snapToSilence(), request.deduplicate());
+    return ResponseEntity.ok(response);
+  }
+
+  @Operation(
+      summary = "증분 장면 분석 (녹화 중인 영상)",
+      description =
+          "녹화 중인 영상에서 마지막 요청 이후 새로 추가된 구간만 분석하여, 새로 확정된 장면의 클립과 썸네일을 반환합니다. "
+              + "녹화가 끝나면 complete=true로 요청하여 마지막 장면을 닫습니다.")
+  @PostMapping("/scenes/tail")
+  public ResponseEntity<TailSceneResponse> detectNewScenes(@RequestBody TailSceneRequest request)
+      throws IOException {
+    TailSceneResponse response =
+        tailSceneDetectionService.detectNewScenes(
+            request.path(), request.threshold(), request.complete());
     return ResponseEntity.ok(response);
   }
 }
@@ -0,0 +1,32 @@
+package com.gdpark.ffmpeg.dto;
+
+import java.util.List;
+
+/**
+ * 오디오 분석 결과를 담는 DTO입니다.
+ *
+ * @param duration 분석한 오디오 길이 (초)
+ * @param integratedLoudness 통합 라우드니스 (LUFS, ITU-R BS.1770), 무음이면 null
+ * @param peakDb 샘플 peak (dBFS)
+ * @param windowSeconds 엔벨로프 윈도우 길이 (초)
+ * @param rmsEnvelope 윈도우별 RMS (dBFS)
+ * @param peakEnvelope 윈도우별 peak (dBFS)
+ * @param silences 무음 구간 목록
+ */
+public record AudioAnalysisResponse(
+    double duration,
+    Double integratedLoudness,
+    double peakDb,
+    double windowSeconds,
+    double[] rmsEnvelope,
+    double[] peakEnvelope,
+    List<Silence> silences) {
+
+  /**
+   * 무음 구간입니다.
+   *
+   * @param start 시작 시간 (초)
+   * @param end 종료 시간 (초)
+   */
+  public record Silence(double start, double end) {}
+}
@@ -5,5 +5,8 @@ package com.gdpark.ffmpeg.dto;
  *
  * @param path 대상 비디오 파일 경로
  * @param threshold 장면 변화 감지 임계값 (0.0 ~ 1.0, 권장값: 0.3)
+ * @param snapToSilence 장면 경계를 근처 무음 구간으로 보정할지 여부 (기본값: false)
+ * @param deduplicate 대표 프레임이 거의 같은 장면은 클립을 만들지 않고 앞선 장면을 참조할지 여부 (기본값: false)
  */
-public record DetectSceneRequest(String path, double threshold) {}
+public record DetectSceneRequest(
+    String path, double threshold, boolean snapToSilence, boolean deduplicate) {}
@@ -5,8 +5,14 @@ package com.gdpark.ffmpeg.dto;
  *
  * @param startTime 장면 시작 시간 (초)
  * @param endTime 장면 종료 시간 (초)
- * @param clipPath 해당 장면의 비디오 클립 파일 경로
- * @param thumbnailPath 해당 장면의 대표 썸네일 파일 경로
+ * @param clipPath 해당 장면의 비디오 클립 파일 경로 (근사 중복 장면이면 대표 장면의 클립)
+ * @param thumbnailPath 해당 장면의 대표 썸네일 파일 경로 (근사 중복 장면이면 대표 장면의 썸네일)
+ * @param duplicateOf 근사 중복 장면이면 대표 장면의 결과 목록 내 위치 (0부터), 아니면 null
  */
 public record SceneResult(
-    double startTime, double endTime, String clipPath, String thumbnailPath) {}
+    double startTime, double endTime, String clipPath, String thumbnailPath, Integer duplicateOf) {
+
+  public SceneResult(double startTime, double endTime, String clipPath, String thumbnailPath) {
+    this(startTime, endTime, clipPath, thumbnailPath, null);
+  }
+}
@@ -0,0 +1,10 @@
+package com.gdpark.ffmpeg.dto;
+
+/**
+ * 녹화 중인(계속 커지는) 영상의 증분 장면 감지 요청을 위한 DTO입니다.
+ *
+ * @param path 대상 비디오 파일 경로
+ * @param threshold 장면 변화 감지 임계값 (0.0 ~ 1.0, 권장값: 0.3)
+ * @param complete 녹화가 끝났으면 true (마지막 장면을 닫고 체크포인트를 삭제)
+ */
+public record TailSceneRequest(String path, double threshold, boolean complete) {}
@@ -0,0 +1,14 @@
+package com.gdpark.ffmpeg.dto;
+
+import java.util.List;
+
+/**
+ * 증분 장면 감지 결과 응답 DTO입니다.
+ *
+ * @param totalScenes 지금까지 확정된 총 장면 수
+ * @param processedUntil 장면 전환 판정이 끝난 시점 (초, 다음 요청은 이 이후만 처리)
+ * @param complete 마지막 요청이었는지 여부
+ * @param newScenes 이번 요청에서 새로 확정된 장면 리스트
+ */
+public record TailSceneResponse(
+    int totalScenes, double processedUntil, boolean complete, List<SceneResult> newScenes) {}
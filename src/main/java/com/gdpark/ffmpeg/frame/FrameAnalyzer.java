@@ -0,0 +1,24 @@
+package com.gdpark.ffmpeg.frame;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link FrameEngine}이 프레임마다 호출하는 분석기입니다.
+ *
+ * <p>프레임은 8비트 그레이스케일(`gray`) 픽셀이 행 우선으로 채워진 버퍼이며, 버퍼는 풀에서 재사용되므로 호출이 끝난 뒤에는
+ * 참조를 보관하면 안 됩니다. 분석기는 상태(직전 히스토그램 등)를 가질 수 있으므로 분석 작업마다 새로 생성합니다.
+ */
+public interface FrameAnalyzer {
+
+  /** 결과 지표 이름 */
+  String name();
+
+  /**
+   * 프레임 하나를 분석합니다. 프레임마다 객체를 할당하지 않아야 합니다.
+   *
+   * @param frame 현재 프레임 (position 0, limit = 픽셀 수)
+   * @param previous 직전 프레임, 첫 프레임이면 null
+   * @return 프레임 점수
+   */
+  double analyze(ByteBuffer frame, ByteBuffer previous);
+}
@@ -0,0 +1,52 @@
+package com.gdpark.ffmpeg.frame;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 크기의 direct(off-heap) 프레임 버퍼를 재사용하는 풀입니다.
+ *
+ * <p>direct 버퍼는 할당/해제 비용이 크고 GC로 회수 시점을 제어할 수 없으므로, 분석 작업이 끝나면 반납받아 다음 작업에서
+ * 재사용합니다. 보관 개수를 넘는 버퍼는 반납 시 버립니다.
+ */
+class FrameBufferPool {
+
+  private final int frameSize;
+  private final int maxRetained;
+  private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger retained = new AtomicInteger();
+
+  /**
+   * @param frameSize 프레임 버퍼 크기 (바이트)
+   * @param maxRetained 풀에 보관할 최대 버퍼 수
+   */
+  FrameBufferPool(int frameSize, int maxRetained) {
+    this.frameSize = frameSize;
+    this.maxRetained = maxRetained;
+  }
+
+  /** 비어 있는(position 0, limit = 프레임 크기) 버퍼를 가져옵니다. */
+  ByteBuffer acquire() {
+    ByteBuffer buffer = buffers.poll();
+    if (buffer == null) {
+      return ByteBuffer.allocateDirect(frameSize);
+    }
+    retained.decrementAndGet();
+    return buffer.clear();
+  }
+
+  /** 버퍼를 풀에 반납합니다. */
+  void release(ByteBuffer buffer) {
+    if (buffer != null && retained.incrementAndGet() <= maxRetained) {
+      buffers.offer(buffer);
+    } else if (buffer != null) {
+      retained.decrementAndGet();
+    }
+  }
+
+  /** 풀에 보관 중인 버퍼 수 */
+  int size() {
+    return retained.get();
+  }
+}
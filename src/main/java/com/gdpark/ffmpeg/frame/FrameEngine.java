@@ -0,0 +1,233 @@
+package com.gdpark.ffmpeg.frame;
+
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import com.gdpark.ffmpeg.service.FfmpegThreadAllocator;
+import com.gdpark.ffmpeg.util.DoubleArray;
+import com.gdpark.ffmpeg.util.FfprobeOutputParser;
+import net.bramp.ffmpeg.FFmpeg;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ffmpeg가 파이프로 내보내는 축소 raw 프레임을 JVM 안에서 분석하는 엔진입니다.
+ *
+ * <p>ffmpeg 프로세스 하나로 영상을 {@value #WIDTH}x{@value #HEIGHT} 그레이스케일 `rawvideo`로 디코딩하고, 프레임을
+ * {@link FrameBufferPool}의 direct 버퍼(현재/직전 두 개)에 번갈아 읽어 등록된 {@link FrameAnalyzer}를 모두 실행합니다.
+ * 프레임마다 객체를 할당하지 않으며, 지표를 추가해도 ffmpeg 프로세스나 디코딩 횟수가 늘지 않습니다. 프레임 시간은 `showinfo`
+ * 필터가 stderr로 출력하는 `pts_time`에서 읽습니다.
+ */
+@Component
+public class FrameEngine {
+
+  private static final Logger log = LoggerFactory.getLogger(FrameEngine.class);
+
+  /** 분석 해상도 (장면 전환 판정에는 축소 프레임으로 충분) */
+  public static final int WIDTH = 160;
+
+  public static final int HEIGHT = 90;
+
+  private static final byte[] PTS_TIME_KEY = "pts_time:".getBytes(StandardCharsets.US_ASCII);
+
+  private final FFmpeg ffmpeg;
+  private final FfmpegMetrics metrics;
+  private final FfmpegThreadAllocator threadAllocator;
+  private final FrameBufferPool bufferPool;
+
+  @Autowired
+  public FrameEngine(
+      @Lazy FFmpeg ffmpeg, FfmpegMetrics metrics, FfmpegThreadAllocator threadAllocator) {
+    this.ffmpeg = ffmpeg;
+    this.metrics = metrics;
+    this.threadAllocator = threadAllocator;
+    // 동시 작업당 현재/직전 프레임 버퍼 2개
+    this.bufferPool =
+        new FrameBufferPool(WIDTH * HEIGHT, 2 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * 입력 영상의 모든 프레임에 분석기를 실행합니다.
+   *
+   * @param inputPath 입력 영상 경로
+   * @param analyzers 실행할 분석기 (작업마다 새 인스턴스)
+   * @return 프레임별 분석 결과
+   * @throws IOException ffmpeg 실행 실패 시 발생
+   */
+  public FrameScores analyze(String inputPath, List<FrameAnalyzer> analyzers) throws IOException {
+    return metrics.time(FfmpegMetrics.OP_FRAME_ANALYSIS, () -> doAnalyze(inputPath, analyzers));
+  }
+
+  private FrameScores doAnalyze(String inputPath, List<FrameAnalyzer> analyzers)
+      throws IOException {
+    long startTime = System.currentTimeMillis();
+    DoubleArray pts = new DoubleArray(1024);
+    Map<String, DoubleArray> scores;
+
+    try (FfmpegThreadAllocator.Allocation allocation = threadAllocator.acquire()) {
+      ProcessBuilder pb =
+          new ProcessBuilder(command(ffmpeg.getPath(), inputPath, allocation.threads()));
+      Process process = metrics.start(pb);
+
+      // stdout(프레임)과 stderr(showinfo)를 동시에 비워야 파이프가 막히지 않음
+      Thread stderrReader =
+          new Thread(() -> readPts(process.getErrorStream(), pts), "frame-engine-stderr");
+      stderrReader.setDaemon(true);
+      stderrReader.start();
+
+      try (ReadableByteChannel channel = Channels.newChannel(process.getInputStream())) {
+        scores = analyzeFrames(channel, analyzers, bufferPool);
+      }
+      int exitCode = process.waitFor();
+      stderrReader.join();
+      if (exitCode != 0) {
+        throw new IOException("프레임 분석 실패 (exit=" + exitCode + "): " + inputPath);
+      }
+
+      long inputBytes = Files.size(Paths.get(inputPath));
+      metrics.bytesRead(FfmpegMetrics.OP_FRAME_ANALYSIS, inputBytes);
+      allocation.complete(inputBytes);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("프레임 분석 중 인터럽트 발생", e);
+    }
+
+    FrameScores result = new FrameScores(pts, scores);
+    log.debug(
+        "프레임 분석 완료: {} (Frames={}, Analyzers={}, 소요시간: {}ms)",
+        inputPath,
+        result.size(),
+        scores.keySet(),
+        System.currentTimeMillis() - startTime);
+    return result;
+  }
+
+  /**
+   * 축소 그레이스케일 raw 프레임을 stdout으로, `showinfo` 로그를 stderr로 내보내는 ffmpeg 명령을 만듭니다.
+   *
+   * <p>`-fps_mode`는 FFmpeg 5.1부터 있으므로, 이전 버전과 이후 버전 모두 받는 `-vsync passthrough`를 사용합니다.
+   *
+   * @param ffmpegPath ffmpeg 실행 파일 경로
+   * @param inputPath 입력 영상 경로
+   * @param threads 디코더 스레드 수
+   * @return ffmpeg 명령
+   */
+  static List<String> command(String ffmpegPath, String inputPath, int threads) {
+    return List.of(
+        ffmpegPath,
+        "-hide_banner",
+        "-nostdin",
+        "-nostats",
+        "-threads",
+        Integer.toString(threads), // 디코더 스레드
+        "-i",
+        inputPath,
+        "-an",
+        "-sn",
+        "-vf",
+        String.format("scale=%d:%d:flags=area,format=gray,showinfo", WIDTH, HEIGHT),
+        "-vsync",
+        "passthrough", // 프레임 복제/드롭 없이 디코딩된 프레임 그대로
+        "-f",
+        "rawvideo",
+        "pipe:1");
+  }
+
+  /**
+   * 채널에서 {@value #WIDTH}x{@value #HEIGHT} 그레이스케일 프레임을 끝까지 읽으며 분석기를 실행합니다. 마지막의 잘린 프레임은
+   * 무시합니다.
+   *
+   * @param channel raw 프레임 스트림
+   * @param analyzers 실행할 분석기
+   * @param pool 프레임 버퍼 풀 (버퍼 크기 = 프레임 크기)
+   * @return 분석기 이름별 프레임 점수
+   * @throws IOException 읽기 실패 시 발생
+   */
+  static Map<String, DoubleArray> analyzeFrames(
+      ReadableByteChannel channel, List<FrameAnalyzer> analyzers, FrameBufferPool pool)
+      throws IOException {
+    Map<String, DoubleArray> scores = new LinkedHashMap<>();
+    DoubleArray[] targets = new DoubleArray[analyzers.size()];
+    for (int i = 0; i < targets.length; i++) {
+      targets[i] = new DoubleArray(1024);
+      scores.put(analyzers.get(i).name(), targets[i]);
+    }
+
+    ByteBuffer current = pool.acquire();
+    ByteBuffer previous = null;
+    try {
+      while (readFrame(channel, current)) {
+        current.flip();
+        for (int i = 0; i < targets.length; i++) {
+          targets[i].add(analyzers.get(i).analyze(current, previous));
+        }
+        ByteBuffer next = previous != null ? previous : pool.acquire();
+        previous = current;
+        current = next.clear();
+      }
+    } finally {
+      pool.release(current);
+      pool.release(previous);
+    }
+    return scores;
+  }
+
+  /** 버퍼가 찰 때까지 읽습니다. 스트림 끝에서 프레임을 다 채우지 못하면 false를 반환합니다. */
+  private static boolean readFrame(ReadableByteChannel channel, ByteBuffer buffer)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** showinfo 로그(`... pts_time:1.234 ...`)에서 프레임 시간을 읽습니다. */
+  static void readPts(InputStream stderr, DoubleArray pts) {
+    try {
+      new FfprobeOutputParser()
+          .parse(
+              stderr,
+              (buf, start, end) -> {
+                int from = indexOf(buf, start, end, PTS_TIME_KEY);
+                if (from < 0) {
+                  return;
+                }
+                int to = from;
+                while (to < end && buf[to] != ' ') {
+                  to++;
+                }
+                double value = FfprobeOutputParser.parseDouble(buf, from, to);
+                if (!Double.isNaN(value)) {
+                  pts.add(value);
+                }
+              });
+    } catch (IOException e) {
+      log.warn("ffmpeg 로그 읽기 실패: {}", e.getMessage());
+    }
+  }
+
+  /** 키 바로 다음 위치를 반환하며, 없으면 -1을 반환합니다. */
+  private static int indexOf(byte[] buf, int start, int end, byte[] key) {
+    for (int i = start; i <= end - key.length; i++) {
+      if (FfprobeOutputParser.regionEquals(buf, i, i + key.length, key)) {
+        return i + key.length;
+      }
+    }
+    return -1;
+  }
+}
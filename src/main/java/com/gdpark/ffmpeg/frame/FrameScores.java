@@ -0,0 +1,38 @@
+package com.gdpark.ffmpeg.frame;
+
+import com.gdpark.ffmpeg.util.DoubleArray;
+
+import java.util.Map;
+
+/**
+ * {@link FrameEngine}이 계산한 프레임별 분석 결과입니다.
+ *
+ * @param pts 프레임 표시 시간 (초)
+ * @param scores 분석기 이름별 프레임 점수 (pts와 같은 순서)
+ */
+public record FrameScores(DoubleArray pts, Map<String, DoubleArray> scores) {
+
+  /** 시간과 점수가 모두 있는 프레임 수 */
+  public int size() {
+    int size = pts.size();
+    for (DoubleArray values : scores.values()) {
+      size = Math.min(size, values.size());
+    }
+    return size;
+  }
+
+  /**
+   * 분석기 점수를 반환합니다.
+   *
+   * @param name 분석기 이름 ({@link FrameAnalyzer#name()})
+   * @return 프레임 점수 배열
+   * @throws IllegalArgumentException 해당 분석기를 실행하지 않은 경우
+   */
+  public DoubleArray scores(String name) {
+    DoubleArray values = scores.get(name);
+    if (values == null) {
+      throw new IllegalArgumentException("분석 결과가 없습니다: " + name);
+    }
+    return values;
+  }
+}
@@ -0,0 +1,74 @@
+package com.gdpark.ffmpeg.frame;
+
+import java.util.Arrays;
+
+/**
+ * 64비트 지각 해시(perceptual hash)를 해밍 거리로 검색하는 인덱스입니다.
+ *
+ * <p>해시를 연속된 `long[]`에 두고 `Long.bitCount(a ^ b)`로 64비트를 한 번에 비교합니다. 장면 수(수백~수천) 규모에서는
+ * 버킷 구조보다 캐시 친화적인 선형 비교가 빠르며, 거리가 0이면 즉시 종료합니다.
+ */
+public final class HammingIndex {
+
+  private long[] hashes = new long[16];
+  private int[] ids = new int[16];
+  private int size;
+
+  /**
+   * 최대 거리 이내에서 가장 가까운 해시의 id를 찾습니다.
+   *
+   * @param hash 찾을 해시
+   * @param maxDistance 허용 해밍 거리 (0~64)
+   * @return 가장 가까운 해시의 id, 없으면 -1
+   */
+  public int nearest(long hash, int maxDistance) {
+    int best = -1;
+    int bestDistance = maxDistance + 1;
+    for (int i = 0; i < size; i++) {
+      int distance = Long.bitCount(hashes[i] ^ hash);
+      if (distance < bestDistance) {
+        bestDistance = distance;
+        best = ids[i];
+        if (distance == 0) {
+          break;
+        }
+      }
+    }
+    return best;
+  }
+
+  /** 해시를 추가합니다. */
+  public void add(long hash, int id) {
+    if (size == hashes.length) {
+      hashes = Arrays.copyOf(hashes, size * 2);
+      ids = Arrays.copyOf(ids, size * 2);
+    }
+    hashes[size] = hash;
+    ids[size] = id;
+    size++;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 해시 목록을 근사 중복 그룹으로 묶습니다. 앞에서부터 보며, 기존 대표와 최대 거리 이내이면 가장 가까운 대표에 속하고 아니면
+   * 새 대표가 됩니다.
+   *
+   * @param hashes 해시 목록 (장면 순서)
+   * @param maxDistance 근사 중복으로 볼 최대 해밍 거리
+   * @return 항목별 대표 위치 (대표 자신은 -1, 대표는 항상 자신보다 앞에 있음)
+   */
+  public static int[] groupNearDuplicates(long[] hashes, int maxDistance) {
+    HammingIndex representatives = new HammingIndex();
+    int[] representativeOf = new int[hashes.length];
+    for (int i = 0; i < hashes.length; i++) {
+      representativeOf[i] = representatives.nearest(hashes[i], maxDistance);
+      if (representativeOf[i] < 0) {
+        representatives.add(hashes[i], i);
+      }
+    }
+    return representativeOf;
+  }
+}
@@ -0,0 +1,50 @@
+package com.gdpark.ffmpeg.frame;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 연속 프레임의 밝기 히스토그램 차이를 계산합니다.
+ *
+ * <p>점수는 두 정규화 히스토그램의 L1 거리의 절반(0~1)입니다. 픽셀 위치를 보지 않으므로 카메라 이동이나 물체 움직임에는 둔감하고,
+ * 조명/색조가 바뀌는 장면 전환에 민감합니다.
+ */
+public class HistogramDifferenceAnalyzer implements FrameAnalyzer {
+
+  public static final String NAME = "histogram";
+
+  /** 히스토그램 구간 수 (256 / 4) */
+  private static final int BINS = 64;
+
+  private int[] histogram = new int[BINS];
+  private int[] previousHistogram = new int[BINS];
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public double analyze(ByteBuffer frame, ByteBuffer previous) {
+    int pixels = frame.limit();
+    Arrays.fill(histogram, 0);
+    for (int i = 0; i < pixels; i++) {
+      histogram[(frame.get(i) & 0xFF) >>> 2]++;
+    }
+
+    double score = 0.0;
+    if (previous != null) {
+      long distance = 0;
+      for (int bin = 0; bin < BINS; bin++) {
+        distance += Math.abs(histogram[bin] - previousHistogram[bin]);
+      }
+      score = distance / (2.0 * pixels);
+    }
+
+    // 다음 프레임에서 비교할 수 있도록 교체 (할당 없음)
+    int[] tmp = previousHistogram;
+    previousHistogram = histogram;
+    histogram = tmp;
+    return score;
+  }
+}
@@ -0,0 +1,175 @@
+package com.gdpark.ffmpeg.frame;
+
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import net.bramp.ffmpeg.FFmpeg;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 지정한 시점의 프레임으로 64비트 dHash(difference hash)를 계산하는 컴포넌트입니다.
+ *
+ * <p>프레임을 9x8 그레이스케일로 축소한 뒤 각 행에서 이웃 픽셀의 밝기 대소를 비트로 기록합니다. 압축 노이즈, 해상도, 약간의
+ * 밝기 변화에는 해시가 거의 바뀌지 않으므로 화면 녹화나 슬라이드처럼 같은 화면이 반복되는 장면을 찾는 데 사용합니다.
+ *
+ * <p>시점마다 ffmpeg를 실행하지 않고, 최대 {@value #BATCH_SIZE}개 시점을 입력별 탐색(`-ss`)으로 한 프로세스에 넣어
+ * `concat` 필터로 72바이트 프레임을 연달아 받습니다.
+ */
+@Component
+public class PerceptualHasher {
+
+  private static final Logger log = LoggerFactory.getLogger(PerceptualHasher.class);
+
+  static final int HASH_WIDTH = 9;
+  static final int HASH_HEIGHT = 8;
+  static final int FRAME_SIZE = HASH_WIDTH * HASH_HEIGHT;
+
+  /** ffmpeg 프로세스 하나가 처리할 최대 시점 수 (시점마다 디먹서/디코더를 하나씩 염) */
+  static final int BATCH_SIZE = 32;
+
+  private final FFmpeg ffmpeg;
+  private final FfmpegMetrics metrics;
+
+  @Autowired
+  public PerceptualHasher(@Lazy FFmpeg ffmpeg, FfmpegMetrics metrics) {
+    this.ffmpeg = ffmpeg;
+    this.metrics = metrics;
+  }
+
+  /**
+   * 각 시점의 프레임 dHash를 계산합니다.
+   *
+   * @param inputPath 입력 영상 경로
+   * @param times 프레임 시점 (초)
+   * @return 시점별 64비트 해시
+   * @throws IOException ffmpeg 실행 실패 또는 일부 시점의 프레임을 얻지 못한 경우 발생
+   */
+  public long[] hash(String inputPath, double[] times) throws IOException {
+    return metrics.time(FfmpegMetrics.OP_PERCEPTUAL_HASH, () -> doHash(inputPath, times));
+  }
+
+  private long[] doHash(String inputPath, double[] times) throws IOException {
+    long startTime = System.currentTimeMillis();
+    long[] hashes = new long[times.length];
+    byte[] frames = new byte[Math.min(BATCH_SIZE, times.length) * FRAME_SIZE];
+
+    for (int from = 0; from < times.length; from += BATCH_SIZE) {
+      int count = Math.min(BATCH_SIZE, times.length - from);
+      Process process =
+          metrics.start(
+              new ProcessBuilder(command(ffmpeg.getPath(), inputPath, times, from, count)));
+
+      // 실패 원인을 예외 메시지에 남기도록 stderr(-v error)를 stdout과 동시에 읽음
+      StringBuilder errors = new StringBuilder();
+      Thread stderrReader =
+          new Thread(
+              () -> errors.append(readAll(process.getErrorStream())), "perceptual-hash-stderr");
+      stderrReader.setDaemon(true);
+      stderrReader.start();
+
+      int read;
+      try (InputStream in = process.getInputStream()) {
+        read = in.readNBytes(frames, 0, count * FRAME_SIZE);
+      }
+      try {
+        int exitCode = process.waitFor();
+        stderrReader.join();
+        if (exitCode != 0 || read != count * FRAME_SIZE) {
+          throw new IOException(
+              String.format(
+                  "프레임 해시 계산 실패 (exit=%d, frames=%d/%d): %s %s",
+                  exitCode, read / FRAME_SIZE, count, inputPath, errors.toString().trim()));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("프레임 해시 계산 중 인터럽트 발생", e);
+      }
+
+      for (int i = 0; i < count; i++) {
+        hashes[from + i] = dHash(frames, i * FRAME_SIZE);
+      }
+    }
+
+    log.debug(
+        "프레임 해시 계산 완료: {} (Frames={}, 소요시간: {}ms)",
+        inputPath,
+        times.length,
+        System.currentTimeMillis() - startTime);
+    return hashes;
+  }
+
+  private static String readAll(InputStream stderr) {
+    try (InputStream in = stderr) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      return ""; // 프로세스 종료로 파이프가 닫힌 경우
+    }
+  }
+
+  private static List<String> command(
+      String ffmpegPath, String inputPath, double[] times, int from, int count) {
+    List<String> command = new ArrayList<>();
+    command.add(ffmpegPath);
+    command.add("-hide_banner");
+    command.add("-nostdin");
+    command.add("-v");
+    command.add("error");
+
+    StringBuilder graph = new StringBuilder();
+    StringBuilder concatInputs = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      // 한 프레임만 디코딩하므로 썸네일과 같이 단일 스레드 사용
+      command.add("-threads");
+      command.add("1");
+      command.add("-ss");
+      command.add(String.format(Locale.ROOT, "%.3f", times[from + i]));
+      command.add("-i");
+      command.add(inputPath);
+      graph.append(
+          String.format(
+              "[%d:v:0]trim=end_frame=1,scale=%d:%d:flags=area,format=gray,setsar=1[h%d];",
+              i, HASH_WIDTH, HASH_HEIGHT, i));
+      concatInputs.append("[h").append(i).append(']');
+    }
+    graph.append(concatInputs).append("concat=n=").append(count).append(":v=1:a=0[out]");
+
+    command.add("-filter_complex");
+    command.add(graph.toString());
+    command.add("-map");
+    command.add("[out]");
+    command.add("-f");
+    command.add("rawvideo");
+    command.add("pipe:1");
+    return command;
+  }
+
+  /**
+   * 9x8 그레이스케일 프레임의 dHash를 계산합니다. 왼쪽 픽셀이 오른쪽 픽셀보다 밝으면 1입니다.
+   *
+   * @param frame 프레임 버퍼
+   * @param offset 프레임 시작 위치 (72바이트)
+   * @return 64비트 해시 (행 우선, 첫 비교가 최상위 비트)
+   */
+  static long dHash(byte[] frame, int offset) {
+    long hash = 0;
+    for (int y = 0; y < HASH_HEIGHT; y++) {
+      int row = offset + y * HASH_WIDTH;
+      for (int x = 0; x < HASH_WIDTH - 1; x++) {
+        hash <<= 1;
+        if ((frame[row + x] & 0xFF) > (frame[row + x + 1] & 0xFF)) {
+          hash |= 1;
+        }
+      }
+    }
+    return hash;
+  }
+}
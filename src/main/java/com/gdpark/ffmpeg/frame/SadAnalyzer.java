@@ -0,0 +1,40 @@
+package com.gdpark.ffmpeg.frame;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 연속 프레임의 SAD(Sum of Absolute Differences)로 장면 전환 점수를 계산합니다.
+ *
+ * <p>ffmpeg `select` 필터의 `scene` 점수와 같은 방식으로 정규화하므로 기존 장면 감지 임계값을 그대로 사용할 수 있습니다. 픽셀당
+ * 평균 차이를 8비트 최대값(`1 << 8`) 대비 백분율로 바꾼 값을 mafd로 두고, `min(mafd, |mafd - 직전 mafd|) / 100`(0~1)을
+ * 점수로 사용합니다. 직전 프레임 대비 변화량의 변화를 보므로 빠른 움직임이 이어지는 구간보다 갑작스러운
+ * 전환에 높은 점수를 줍니다.
+ */
+public class SadAnalyzer implements FrameAnalyzer {
+
+  public static final String NAME = "sad";
+
+  private double previousMafd;
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public double analyze(ByteBuffer frame, ByteBuffer previous) {
+    if (previous == null) {
+      return 0.0;
+    }
+    int pixels = frame.limit();
+    long sad = 0;
+    for (int i = 0; i < pixels; i++) {
+      sad += Math.abs((frame.get(i) & 0xFF) - (previous.get(i) & 0xFF));
+    }
+
+    double mafd = sad * 100.0 / pixels / (1 << 8); // ffmpeg vf_select와 같은 백분율 척도
+    double diff = Math.abs(mafd - previousMafd);
+    previousMafd = mafd;
+    return Math.min(1.0, Math.min(mafd, diff) / 100.0);
+  }
+}
@@ -0,0 +1,191 @@
+package com.gdpark.ffmpeg.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.bramp.ffmpeg.progress.ProgressListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * FFmpeg/FFprobe 호출 및 미디어 작업 관련 Micrometer 지표를 기록하는 컴포넌트입니다.
+ *
+ * <p>모든 지표는 Actuator의 `/actuator/prometheus` 엔드포인트로 수집할 수 있습니다.
+ *
+ * <ul>
+ *   <li>`media.operation` (Timer, histogram): 작업별(probe, scene_detect, clip, thumbnail, audio, audio_analysis, frame_analysis, perceptual_hash, upload) 소요 시간
+ *   <li>`media.operations.active` (Gauge): 진행 중인 작업 수
+ *   <li>`ffmpeg.process.spawn` (Timer): 외부 프로세스 생성(fork/exec) 소요 시간
+ *   <li>`ffmpeg.processes.active` (Gauge): 실행 중인 ffmpeg/ffprobe 프로세스 수
+ *   <li>`media.io.bytes` (Counter): 작업별 읽기/쓰기 바이트 수
+ *   <li>`ffmpeg.progress.speed`, `ffmpeg.progress.fps` (Summary): ffmpeg 진행률 보고의 처리 배속/fps
+ *   <li>`cache.requests` (Counter): 캐시별 hit/miss 횟수
+ *   <li>`jobs.queue.depth` (Gauge): 작업 큐에서 점유되지 않고 대기 중인 작업 수
+ * </ul>
+ */
+@Component
+public class FfmpegMetrics {
+
+  public static final String OP_PROBE = "probe";
+  public static final String OP_SCENE_DETECT = "scene_detect";
+  public static final String OP_CLIP = "clip";
+  public static final String OP_THUMBNAIL = "thumbnail";
+  public static final String OP_AUDIO = "audio";
+  public static final String OP_AUDIO_ANALYSIS = "audio_analysis";
+  public static final String OP_FRAME_ANALYSIS = "frame_analysis";
+  public static final String OP_PERCEPTUAL_HASH = "perceptual_hash";
+  public static final String OP_UPLOAD = "upload";
+
+  private final MeterRegistry registry;
+  private final AtomicInteger activeOperations = new AtomicInteger();
+  private final AtomicInteger activeProcesses = new AtomicInteger();
+  private final Timer spawnTimer;
+
+  @Autowired
+  public FfmpegMetrics(MeterRegistry registry) {
+    this.registry = registry;
+    Gauge.builder("media.operations.active", activeOperations, AtomicInteger::get)
+        .description("진행 중인 미디어 작업 수")
+        .register(registry);
+    Gauge.builder("ffmpeg.processes.active", activeProcesses, AtomicInteger::get)
+        .description("실행 중인 ffmpeg/ffprobe 프로세스 수")
+        .register(registry);
+    this.spawnTimer =
+        Timer.builder("ffmpeg.process.spawn")
+            .description("ffmpeg/ffprobe 프로세스 생성 소요 시간")
+            .publishPercentileHistogram()
+            .register(registry);
+  }
+
+  /**
+   * 작업 소요 시간을 기록하며 작업을 실행합니다.
+   *
+   * @param operation 작업 이름 (`OP_*` 상수)
+   * @param task 실행할 작업
+   * @return 작업 결과
+   * @throws E 작업 실패 시 그대로 전파
+   */
+  public <T, E extends Exception> T time(String operation, ThrowingSupplier<T, E> task) throws E {
+    long start = System.nanoTime();
+    String outcome = "error";
+    activeOperations.incrementAndGet();
+    try {
+      T result = task.get();
+      outcome = "success";
+      return result;
+    } finally {
+      activeOperations.decrementAndGet();
+      Timer.builder("media.operation")
+          .description("미디어 작업 소요 시간")
+          .tag("operation", operation)
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(registry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * 프로세스를 시작하고 생성 소요 시간 및 실행 중인 프로세스 수를 기록합니다.
+   *
+   * @param processBuilder 실행할 프로세스 설정
+   * @return 시작된 프로세스
+   * @throws IOException 프로세스 시작 실패 시 발생
+   */
+  public Process start(ProcessBuilder processBuilder) throws IOException {
+    long start = System.nanoTime();
+    Process process = processBuilder.start();
+    return track(process, System.nanoTime() - start);
+  }
+
+  /** 이미 시작된 프로세스를 실행 중 프로세스 수 및 생성 소요 시간 지표에 반영합니다. */
+  Process track(Process process, long spawnNanos) {
+    spawnTimer.record(spawnNanos, TimeUnit.NANOSECONDS);
+    activeProcesses.incrementAndGet();
+    process.onExit().whenComplete((p, e) -> activeProcesses.decrementAndGet());
+    return process;
+  }
+
+  /**
+   * ffmpeg 진행률 보고(`-progress`)에서 처리 배속과 fps를 기록하는 리스너를 반환합니다.
+   *
+   * @param operation 작업 이름
+   * @return 진행률 리스너
+   */
+  public ProgressListener progressListener(String operation) {
+    DistributionSummary speed =
+        DistributionSummary.builder("ffmpeg.progress.speed")
+            .description("ffmpeg가 보고한 처리 배속 (1.0 = 실시간)")
+            .tag("operation", operation)
+            .register(registry);
+    DistributionSummary fps =
+        DistributionSummary.builder("ffmpeg.progress.fps")
+            .description("ffmpeg가 보고한 처리 fps")
+            .tag("operation", operation)
+            .register(registry);
+    return progress -> {
+      if (progress.speed > 0) {
+        speed.record(progress.speed);
+      }
+      if (progress.fps != null && progress.fps.doubleValue() > 0) {
+        fps.record(progress.fps.doubleValue());
+      }
+    };
+  }
+
+  /** 작업에서 읽은 바이트 수를 기록합니다. */
+  public void bytesRead(String operation, long bytes) {
+    ioCounter(operation, "read").increment(bytes);
+  }
+
+  /** 작업에서 쓴 바이트 수를 기록합니다. */
+  public void bytesWritten(String operation, long bytes) {
+    ioCounter(operation, "write").increment(bytes);
+  }
+
+  /** 캐시 조회 결과(hit/miss)를 기록합니다. */
+  public void cacheAccess(String cache, boolean hit) {
+    Counter.builder("cache.requests")
+        .description("캐시 조회 횟수")
+        .tag("cache", cache)
+        .tag("result", hit ? "hit" : "miss")
+        .register(registry)
+        .increment();
+  }
+
+  /**
+   * 작업 큐의 대기 작업 수를 게이지로 등록합니다.
+   *
+   * @param queue 큐 종류 (memory, filesystem)
+   * @param source 큐 객체 (게이지는 약한 참조로 보관하므로 빈 등 다른 곳에서 참조가 유지되어야 함)
+   * @param depth 대기 작업 수를 반환하는 함수
+   */
+  public <T> void registerQueueDepth(String queue, T source, ToDoubleFunction<T> depth) {
+    Gauge.builder("jobs.queue.depth", source, depth)
+        .description("작업 큐에서 대기 중인 작업 수")
+        .tag("queue", queue)
+        .register(registry);
+  }
+
+  private Counter ioCounter(String operation, String direction) {
+    return Counter.builder("media.io.bytes")
+        .description("미디어 작업 입출력 바이트 수")
+        .baseUnit("bytes")
+        .tag("operation", operation)
+        .tag("direction", direction)
+        .register(registry);
+  }
+
+  /** 예외를 던질 수 있는 작업 */
+  @FunctionalInterface
+  public interface ThrowingSupplier<T, E extends Exception> {
+    T get() throws E;
+  }
+}
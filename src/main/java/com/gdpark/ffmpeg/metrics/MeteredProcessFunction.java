@@ -0,0 +1,25 @@
+package com.gdpark.ffmpeg.metrics;
+
+import net.bramp.ffmpeg.RunProcessFunction;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * FFmpeg/FFprobe wrapper가 실행하는 모든 프로세스의 생성 시간과 실행 수를 기록하는 {@link RunProcessFunction}입니다.
+ */
+public class MeteredProcessFunction extends RunProcessFunction {
+
+  private final FfmpegMetrics metrics;
+
+  public MeteredProcessFunction(FfmpegMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Process run(List<String> args) throws IOException {
+    long start = System.nanoTime();
+    Process process = super.run(args);
+    return metrics.track(process, System.nanoTime() - start);
+  }
+}
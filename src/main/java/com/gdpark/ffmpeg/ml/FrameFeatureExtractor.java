@@ -0,0 +1,233 @@
+package com.gdpark.ffmpeg.ml;
+
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import com.gdpark.ffmpeg.service.FfmpegCapabilities;
+import com.gdpark.ffmpeg.service.FfmpegThreadAllocator;
+import com.gdpark.ffmpeg.util.FfprobeOutputParser;
+import net.bramp.ffmpeg.FFprobe;
+import net.bramp.ffmpeg.probe.FFmpegStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * 한 번의 디코딩 패스로 프레임 단위 특징 벡터를 추출하는 컴포넌트입니다.
+ *
+ * <p>lavfi 필터 그래프에서 비디오는 `select`(scene score)와 `signalstats`(Y/U/V 평균)를, 오디오는 `astats`(RMS
+ * 레벨)를 계산하고, ffprobe의 compact 출력으로 받아 {@link FrameFeatures}에 적재합니다.
+ */
+@Component
+public class FrameFeatureExtractor {
+
+  private static final Logger log = LoggerFactory.getLogger(FrameFeatureExtractor.class);
+
+  /** 무음(-inf dB) 처리를 위한 오디오 레벨 하한 (dB) */
+  private static final double MIN_AUDIO_LEVEL_DB = -120.0;
+
+  private static final String SHOW_ENTRIES =
+      "frame=media_type,pts_time:frame_tags=lavfi.scene_score,lavfi.signalstats.YAVG,"
+          + "lavfi.signalstats.UAVG,lavfi.signalstats.VAVG,lavfi.astats.Overall.RMS_level";
+
+  private final FFprobe ffprobe;
+  private final FfmpegMetrics metrics;
+  private final FfmpegThreadAllocator threadAllocator;
+  private final FfmpegCapabilities capabilities;
+
+  @Autowired
+  public FrameFeatureExtractor(
+      @Lazy FFprobe ffprobe,
+      FfmpegMetrics metrics,
+      FfmpegThreadAllocator threadAllocator,
+      FfmpegCapabilities capabilities) {
+    this.ffprobe = ffprobe;
+    this.metrics = metrics;
+    this.threadAllocator = threadAllocator;
+    this.capabilities = capabilities;
+  }
+
+  /**
+   * 입력 영상의 모든 프레임에 대한 특징 벡터를 추출합니다. 오디오 스트림 존재 여부는 ffprobe로 확인합니다.
+   *
+   * @param inputPath 입력 영상 경로
+   * @return 프레임 특징 컨테이너
+   * @throws IOException ffprobe 실행 실패 시 발생
+   */
+  public FrameFeatures extract(String inputPath) throws IOException {
+    boolean hasAudio =
+        metrics.time(FfmpegMetrics.OP_PROBE, () -> ffprobe.probe(inputPath)).getStreams().stream()
+            .anyMatch(s -> s.codec_type == FFmpegStream.CodecType.AUDIO);
+    return extract(inputPath, hasAudio);
+  }
+
+  /**
+   * 입력 영상의 모든 프레임에 대한 특징 벡터를 추출합니다.
+   *
+   * @param inputPath 입력 영상 경로
+   * @param includeAudio 오디오 스트림 포함 여부 (오디오가 없는 파일에서 `da` 스트림을 요청하면 실패하므로 분리)
+   * @return 프레임 특징 컨테이너
+   * @throws IOException ffprobe 실행 실패 시 발생
+   */
+  public FrameFeatures extract(String inputPath, boolean includeAudio) throws IOException {
+    try (FfmpegThreadAllocator.Allocation allocation = threadAllocator.acquire()) {
+      // movie 소스의 디코더 스레드 수는 동시 작업 수/시스템 부하에 맞춰 할당 (dec_threads: FFmpeg 5.1+)
+      String decThreads = capabilities.movieDecoderThreads(allocation.threads());
+      String graph =
+          includeAudio
+              ? String.format(
+                  "movie=%s:s=dv+da%s[v][a];"
+                      + "[v]select=gte(scene\\,0),signalstats[out0];"
+                      + "[a]astats=metadata=1:reset=1[out1]",
+                  inputPath,
+                  decThreads)
+              : String.format(
+                  "movie=%s%s,select=gte(scene\\,0),signalstats", inputPath, decThreads);
+
+      ProcessBuilder pb =
+          new ProcessBuilder(
+              ffprobe.getPath(),
+              "-v",
+              "error",
+              "-show_entries",
+              SHOW_ENTRIES,
+              "-of",
+              "compact=p=0",
+              "-f",
+              "lavfi",
+              "-i",
+              graph);
+      pb.redirectErrorStream(true);
+      Process process = metrics.start(pb);
+
+      FrameFeatures features;
+      try (InputStream in = process.getInputStream()) {
+        features = parse(in);
+      }
+
+      try {
+        process.waitFor();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("특징 추출 대기 중 인터럽트 발생", e);
+      }
+      long inputBytes = Files.size(Paths.get(inputPath));
+      metrics.bytesRead(FfmpegMetrics.OP_SCENE_DETECT, inputBytes);
+      allocation.complete(inputBytes);
+      log.debug("프레임 특징 추출 완료: Input={}, Frames={}", inputPath, features.size());
+      return features;
+    }
+  }
+
+  /**
+   * ffprobe compact 출력(`key=value|key=value`)을 읽어 프레임 특징으로 변환합니다.
+   *
+   * <p>오디오 프레임은 직전 오디오 레벨만 갱신하고, 비디오 프레임이 나올 때 현재 오디오 레벨과 함께 한 행으로 기록합니다. 출력은
+   * {@link FfprobeOutputParser}로 바이트 단위로 읽으므로 프레임 수에 비례하는 문자열을 만들지 않습니다.
+   */
+  static FrameFeatures parse(InputStream source) throws IOException {
+    CompactFrameHandler handler = new CompactFrameHandler();
+    new FfprobeOutputParser().parse(source, handler);
+    return handler.features;
+  }
+
+  /** compact 출력 한 줄을 해석하며 직전 프레임 상태를 유지하는 핸들러 */
+  private static final class CompactFrameHandler implements FfprobeOutputParser.LineHandler {
+
+    private static final byte[] MEDIA_TYPE = ascii("media_type");
+    private static final byte[] PTS_TIME = ascii("pts_time");
+    private static final byte[] SCENE_SCORE = ascii("tag:lavfi.scene_score");
+    private static final byte[] YAVG = ascii("tag:lavfi.signalstats.YAVG");
+    private static final byte[] UAVG = ascii("tag:lavfi.signalstats.UAVG");
+    private static final byte[] VAVG = ascii("tag:lavfi.signalstats.VAVG");
+    private static final byte[] RMS_LEVEL = ascii("tag:lavfi.astats.Overall.RMS_level");
+    private static final byte[] VIDEO = ascii("video");
+    private static final byte[] AUDIO = ascii("audio");
+
+    private final FrameFeatures features = new FrameFeatures();
+    private double prevY = Double.NaN;
+    private double prevChroma = Double.NaN;
+    private double audioEnergy = -1.0;
+    private double prevAudioEnergy = -1.0;
+
+    @Override
+    public void onLine(byte[] buf, int start, int end) {
+      boolean video = false;
+      boolean audio = false;
+      double pts = Double.NaN;
+      double scene = 0;
+      double y = Double.NaN;
+      double u = 0;
+      double v = 0;
+      double rms = Double.NaN;
+
+      int pos = start;
+      while (pos < end) {
+        int sep = indexOf(buf, (byte) '|', pos, end);
+        int eq = indexOf(buf, (byte) '=', pos, sep);
+        if (eq > pos && eq < sep) {
+          int valueStart = eq + 1;
+          if (FfprobeOutputParser.regionEquals(buf, pos, eq, MEDIA_TYPE)) {
+            video = FfprobeOutputParser.regionEquals(buf, valueStart, sep, VIDEO);
+            audio = FfprobeOutputParser.regionEquals(buf, valueStart, sep, AUDIO);
+          } else if (FfprobeOutputParser.regionEquals(buf, pos, eq, PTS_TIME)) {
+            pts = FfprobeOutputParser.parseDouble(buf, valueStart, sep);
+          } else if (FfprobeOutputParser.regionEquals(buf, pos, eq, SCENE_SCORE)) {
+            scene = FfprobeOutputParser.parseDouble(buf, valueStart, sep);
+          } else if (FfprobeOutputParser.regionEquals(buf, pos, eq, YAVG)) {
+            y = FfprobeOutputParser.parseDouble(buf, valueStart, sep);
+          } else if (FfprobeOutputParser.regionEquals(buf, pos, eq, UAVG)) {
+            u = FfprobeOutputParser.parseDouble(buf, valueStart, sep);
+          } else if (FfprobeOutputParser.regionEquals(buf, pos, eq, VAVG)) {
+            v = FfprobeOutputParser.parseDouble(buf, valueStart, sep);
+          } else if (FfprobeOutputParser.regionEquals(buf, pos, eq, RMS_LEVEL)) {
+            rms = FfprobeOutputParser.parseDouble(buf, valueStart, sep); // "-inf" 포함
+          }
+        }
+        pos = sep + 1;
+      }
+
+      if (audio) {
+        double level = Double.isNaN(rms) ? MIN_AUDIO_LEVEL_DB : Math.max(MIN_AUDIO_LEVEL_DB, rms);
+        audioEnergy = Math.min(0.0, level / -MIN_AUDIO_LEVEL_DB);
+      } else if (video && !Double.isNaN(pts)) {
+        double chroma = u + v;
+        double lumaDelta = Double.isNaN(prevY) || Double.isNaN(y) ? 0 : Math.abs(y - prevY);
+        double chromaDelta = Double.isNaN(prevChroma) ? 0 : Math.abs(chroma - prevChroma);
+        features.add(
+            pts,
+            Double.isNaN(scene) ? 0 : scene,
+            lumaDelta,
+            chromaDelta,
+            audioEnergy,
+            Math.abs(audioEnergy - prevAudioEnergy));
+        prevY = y;
+        prevChroma = chroma;
+        prevAudioEnergy = audioEnergy;
+      } else if (log.isTraceEnabled()) {
+        log.trace(
+            "Unrecognized output line from ffprobe: {}",
+            new String(buf, start, end - start, StandardCharsets.UTF_8));
+      }
+    }
+
+    private static int indexOf(byte[] buf, byte target, int from, int to) {
+      for (int i = from; i < to; i++) {
+        if (buf[i] == target) {
+          return i;
+        }
+      }
+      return to;
+    }
+
+    private static byte[] ascii(String value) {
+      return value.getBytes(StandardCharsets.US_ASCII);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.gdpark.ffmpeg.ml;
+
+import java.util.Arrays;
+
+/**
+ * 프레임 단위 특징(feature) 벡터를 열(column) 단위 primitive 배열로 보관하는 컨테이너입니다.
+ *
+ * <p>프레임마다 객체를 만들지 않도록 각 특징을 `double[]`에 순서대로 저장하며, 용량이 부족하면 배열을 2배씩 확장합니다.
+ *
+ * <ul>
+ *   <li>0: scene score (ffmpeg `select` 필터가 계산한 장면 변화 점수)
+ *   <li>1: 이전 프레임 대비 휘도(Y) 평균 변화량
+ *   <li>2: 이전 프레임 대비 색차(U+V) 평균 변화량
+ *   <li>3: 오디오 에너지 (RMS dB를 [-1, 0] 범위로 정규화)
+ *   <li>4: 이전 프레임 대비 오디오 에너지 변화량
+ * </ul>
+ */
+public final class FrameFeatures {
+
+  /** 프레임당 특징 개수 */
+  public static final int FEATURE_COUNT = 5;
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private double[] pts = new double[INITIAL_CAPACITY];
+  private double[] values = new double[INITIAL_CAPACITY * FEATURE_COUNT];
+  private int size;
+
+  /**
+   * 프레임 하나의 특징을 추가합니다.
+   *
+   * @param ptsTime 프레임 표시 시간 (초)
+   * @param sceneScore 장면 변화 점수
+   * @param lumaDelta 휘도 평균 변화량
+   * @param chromaDelta 색차 평균 변화량
+   * @param audioEnergy 정규화된 오디오 에너지
+   * @param audioDelta 오디오 에너지 변화량
+   */
+  public void add(
+      double ptsTime,
+      double sceneScore,
+      double lumaDelta,
+      double chromaDelta,
+      double audioEnergy,
+      double audioDelta) {
+    if (size == pts.length) {
+      pts = Arrays.copyOf(pts, size * 2);
+      values = Arrays.copyOf(values, size * 2 * FEATURE_COUNT);
+    }
+    pts[size] = ptsTime;
+    int offset = size * FEATURE_COUNT;
+    values[offset] = sceneScore;
+    values[offset + 1] = lumaDelta;
+    values[offset + 2] = chromaDelta;
+    values[offset + 3] = audioEnergy;
+    values[offset + 4] = audioDelta;
+    size++;
+  }
+
+  /** 저장된 프레임 수를 반환합니다. */
+  public int size() {
+    return size;
+  }
+
+  /** i번째 프레임의 표시 시간(초)을 반환합니다. */
+  public double pts(int index) {
+    return pts[index];
+  }
+
+  /** i번째 프레임의 j번째 특징 값을 반환합니다. */
+  public double value(int index, int feature) {
+    return values[index * FEATURE_COUNT + feature];
+  }
+
+  /**
+   * i번째 프레임의 특징 벡터를 호출자가 제공한 배열에 복사합니다.
+   *
+   * @param index 프레임 인덱스
+   * @param target 길이가 {@link #FEATURE_COUNT} 이상인 배열
+   */
+  public void copyTo(int index, double[] target) {
+    System.arraycopy(values, index * FEATURE_COUNT, target, 0, FEATURE_COUNT);
+  }
+}
@@ -0,0 +1,31 @@
+package com.gdpark.ffmpeg.ml;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * ML 모델 워밍업 상태를 readiness 헬스 그룹에 노출하는 헬스 인디케이터입니다.
+ *
+ * <p>`ml.warmup=true`인 경우 모든 모델이 로드되기 전까지 OUT_OF_SERVICE를 반환하여, 워밍업이 끝난 뒤에 트래픽을 받도록 합니다.
+ * 지연 로드 모드에서는 항상 UP입니다.
+ */
+@Component
+public class ModelHealthIndicator implements HealthIndicator {
+
+  private final ModelRegistry modelRegistry;
+
+  @Autowired
+  public ModelHealthIndicator(ModelRegistry modelRegistry) {
+    this.modelRegistry = modelRegistry;
+  }
+
+  @Override
+  public Health health() {
+    boolean warm = modelRegistry.isWarm();
+    Health.Builder builder =
+        !modelRegistry.isWarmupEnabled() || warm ? Health.up() : Health.outOfService();
+    return builder.withDetail("warmup", modelRegistry.isWarmupEnabled()).withDetail("warm", warm).build();
+  }
+}
@@ -0,0 +1,149 @@
+package com.gdpark.ffmpeg.ml;
+
+import com.gdpark.ffmpeg.config.ModelProperties;
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오프라인에서 학습/직렬화된 Smile 모델을 이름으로 관리하는 레지스트리입니다.
+ *
+ * <p>애플리케이션 시작 경로에서는 모델을 학습하거나 로드하지 않습니다. 모델은 최초 {@link #get(String, Class)} 호출 시 한 번만
+ * 역직렬화되며, `ml.warmup=true`이면 애플리케이션 준비 완료 직후 백그라운드 스레드에서 미리 로드합니다. 워밍업 중에 들어온 요청은
+ * 모델을 중복 로드하지 않고 진행 중인 로드가 끝나기를 기다립니다.
+ */
+@Component
+public class ModelRegistry {
+
+  /** 장면 경계 분류 모델 이름 */
+  public static final String SCENE_BOUNDARY = "scene-boundary";
+
+  private static final Logger log = LoggerFactory.getLogger(ModelRegistry.class);
+
+  private final Map<String, Path> modelPaths = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Object>> models = new ConcurrentHashMap<>();
+  private final boolean warmup;
+  private final FfmpegMetrics metrics;
+
+  @Autowired
+  public ModelRegistry(ModelProperties modelProperties, FfmpegMetrics metrics) {
+    this.metrics = metrics;
+    if (modelProperties.models() != null) {
+      modelProperties.models().forEach(
+          (name, path) -> {
+            if (path != null && !path.isBlank()) {
+              modelPaths.put(name, Paths.get(path));
+            }
+          });
+    }
+    this.warmup = modelProperties.warmup();
+  }
+
+  /** 해당 이름의 모델 파일이 설정되어 있고 존재하는지 확인합니다. */
+  public boolean isAvailable(String name) {
+    Path path = modelPaths.get(name);
+    return path != null && Files.isRegularFile(path);
+  }
+
+  /** 애플리케이션 준비 완료 후 백그라운드 워밍업 사용 여부를 반환합니다. */
+  public boolean isWarmupEnabled() {
+    return warmup;
+  }
+
+  /** 사용 가능한 모든 모델이 메모리에 로드되었는지 확인합니다. */
+  public boolean isWarm() {
+    return modelPaths.keySet().stream()
+        .filter(this::isAvailable)
+        .allMatch(
+            name -> {
+              CompletableFuture<Object> future = models.get(name);
+              return future != null && future.isDone() && !future.isCompletedExceptionally();
+            });
+  }
+
+  /**
+   * 모델을 반환합니다. 아직 로드되지 않았다면 이 호출에서 로드하며, 다른 스레드가 로드 중이면 완료될 때까지 기다립니다.
+   *
+   * @param name 모델 이름
+   * @param type 모델 타입
+   * @return 역직렬화된 모델
+   * @throws IOException 모델 파일이 없거나 역직렬화에 실패한 경우 발생
+   */
+  public <T> T get(String name, Class<T> type) throws IOException {
+    CompletableFuture<Object> future = models.get(name);
+    metrics.cacheAccess("model", future != null);
+    if (future == null) {
+      CompletableFuture<Object> created = new CompletableFuture<>();
+      future = models.putIfAbsent(name, created);
+      if (future == null) {
+        future = created;
+        load(name, created);
+      }
+    }
+
+    try {
+      return type.cast(future.join());
+    } catch (CompletionException e) {
+      // 실패한 로드는 캐시하지 않고 다음 호출에서 재시도
+      models.remove(name, future);
+      throw new IOException("모델을 로드할 수 없습니다: " + name, e.getCause());
+    }
+  }
+
+  /** 애플리케이션 준비 완료 후, 설정에 따라 백그라운드에서 모델을 미리 로드합니다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    if (!warmup || modelPaths.isEmpty()) {
+      return;
+    }
+    Thread thread =
+        new Thread(
+            () ->
+                modelPaths.keySet().stream()
+                    .filter(this::isAvailable)
+                    .forEach(
+                        name -> {
+                          try {
+                            get(name, Object.class);
+                          } catch (IOException e) {
+                            log.warn("모델 워밍업 실패: {} ({})", name, e.getMessage());
+                          }
+                        }),
+            "model-warmup");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void load(String name, CompletableFuture<Object> target) {
+    Path path = modelPaths.get(name);
+    if (path == null) {
+      target.completeExceptionally(new IOException("등록되지 않은 모델입니다: " + name));
+      return;
+    }
+
+    long startTime = System.currentTimeMillis();
+    try {
+      target.complete(smile.io.Read.object(path));
+      log.info(
+          "모델 로드 완료: {} ({}, 소요시간: {}ms)",
+          name,
+          path,
+          System.currentTimeMillis() - startTime);
+    } catch (Exception e) {
+      target.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.gdpark.ffmpeg.ml;
+
+import com.gdpark.ffmpeg.util.DoubleArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import smile.classification.Classifier;
+
+import java.io.IOException;
+
+/**
+ * 프레임 특징 벡터로 장면 경계(boundary) 여부를 판별하는 Smile 분류기 래퍼입니다.
+ *
+ * <p>모델은 {@link SceneBoundaryTrainer}로 오프라인 학습/직렬화한 파일을 {@link ModelRegistry}를 통해 한 번만 로드합니다.
+ * 모델 경로가 설정되지 않았거나 파일이 없으면 {@link #isAvailable()}이 false를 반환하며, 이 경우 기존 임계값 기반 감지를 사용합니다.
+ */
+@Component
+public class SceneBoundaryClassifier {
+
+  private static final Logger log = LoggerFactory.getLogger(SceneBoundaryClassifier.class);
+
+  /** 한 번에 예측할 프레임 수 */
+  private static final int BATCH_SIZE = 4096;
+
+  private final ModelRegistry modelRegistry;
+
+  @Autowired
+  public SceneBoundaryClassifier(ModelRegistry modelRegistry) {
+    this.modelRegistry = modelRegistry;
+  }
+
+  /** 사용 가능한 모델 파일이 설정되어 있는지 확인합니다. */
+  public boolean isAvailable() {
+    return modelRegistry.isAvailable(ModelRegistry.SCENE_BOUNDARY);
+  }
+
+  /**
+   * 모든 프레임을 배치 단위로 분류하여 장면 경계 타임스탬프를 반환합니다.
+   *
+   * <p>연속해서 경계로 분류된 프레임은 하나의 전환으로 보고 첫 프레임의 시간만 사용합니다. 결과의 첫 값은 항상 시작점(0.0)입니다.
+   *
+   * @param features 프레임 특징 컨테이너
+   * @return 장면 전환 시간(초) 배열
+   * @throws IOException 모델 로드 실패 시 발생
+   */
+  public DoubleArray detectBoundaries(FrameFeatures features) throws IOException {
+    Classifier<double[]> classifier = loadModel();
+
+    DoubleArray timestamps = new DoubleArray();
+    timestamps.add(0.0); // 시작점
+
+    int total = features.size();
+    double[][] batch = new double[Math.min(BATCH_SIZE, total)][FrameFeatures.FEATURE_COUNT];
+    boolean previousBoundary = false;
+
+    for (int from = 0; from < total; from += BATCH_SIZE) {
+      int count = Math.min(BATCH_SIZE, total - from);
+      if (count != batch.length) {
+        batch = new double[count][FrameFeatures.FEATURE_COUNT];
+      }
+      for (int i = 0; i < count; i++) {
+        features.copyTo(from + i, batch[i]);
+      }
+
+      int[] labels = classifier.predict(batch);
+      for (int i = 0; i < count; i++) {
+        boolean boundary = labels[i] == 1;
+        double pts = features.pts(from + i);
+        if (boundary && !previousBoundary && pts > 0) {
+          timestamps.add(pts);
+        }
+        previousBoundary = boundary;
+      }
+    }
+
+    log.debug("ML 장면 경계 분류 완료: Frames={}, Boundaries={}", total, timestamps.size() - 1);
+    return timestamps;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Classifier<double[]> loadModel() throws IOException {
+    return modelRegistry.get(ModelRegistry.SCENE_BOUNDARY, Classifier.class);
+  }
+}
@@ -0,0 +1,182 @@
+package com.gdpark.ffmpeg.ml;
+
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import com.gdpark.ffmpeg.service.FfmpegCapabilities;
+import com.gdpark.ffmpeg.service.FfmpegThreadAllocator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.bramp.ffmpeg.FFprobe;
+import smile.classification.LogisticRegression;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 장면 경계 분류 모델을 오프라인으로 학습하고 직렬화하는 CLI입니다.
+ *
+ * <p>사용법: {@code SceneBoundaryTrainer <ffprobe 경로> <모델 출력 경로> <영상> <정답 파일> [<영상> <정답 파일> ...]}
+ *
+ * <p>정답 파일은 한 줄에 하나씩 장면 전환 시간(초)을 적은 텍스트 파일입니다. 정답 시간과 {@link #LABEL_TOLERANCE_SEC} 이내인
+ * 프레임을 경계(1), 나머지를 비경계(0)로 라벨링합니다.
+ *
+ * <p>경계 프레임은 전체의 극히 일부이므로, 그대로 학습하면 모든 프레임을 비경계로 예측하는 모델이 됩니다. 비경계 프레임을 경계
+ * 프레임의 {@link #NEGATIVE_RATIO}배까지 고정 시드로 무작위 추출해 학습하고, 전체 프레임 기준 경계 클래스의 정밀도/재현율을
+ * 출력합니다.
+ */
+public final class SceneBoundaryTrainer {
+
+  /** 정답 시간과 프레임 시간의 허용 오차 (초) */
+  static final double LABEL_TOLERANCE_SEC = 0.05;
+
+  /** 학습에 사용할 비경계 프레임 수 (경계 프레임 수 대비 배수) */
+  static final int NEGATIVE_RATIO = 10;
+
+  private SceneBoundaryTrainer() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 4 || args.length % 2 != 0) {
+      System.err.println(
+          "Usage: SceneBoundaryTrainer <ffprobe> <model-out> <video> <labels> [<video> <labels> ...]");
+      System.exit(1);
+    }
+
+    FFprobe ffprobe = new FFprobe(args[0]);
+    FrameFeatureExtractor extractor =
+        new FrameFeatureExtractor(
+            ffprobe,
+            new FfmpegMetrics(new SimpleMeterRegistry()),
+            new FfmpegThreadAllocator(),
+            new FfmpegCapabilities(ffprobe));
+    Path modelOut = Paths.get(args[1]);
+
+    int total = 0;
+    FrameFeatures[] featureSets = new FrameFeatures[(args.length - 2) / 2];
+    double[][] boundarySets = new double[featureSets.length][];
+    for (int i = 0; i < featureSets.length; i++) {
+      String video = args[2 + i * 2];
+      featureSets[i] = extractor.extract(video);
+      boundarySets[i] = readBoundaries(Paths.get(args[3 + i * 2]));
+      total += featureSets[i].size();
+      System.out.printf("특징 추출: %s (%d frames)%n", video, featureSets[i].size());
+    }
+
+    double[][] x = new double[total][FrameFeatures.FEATURE_COUNT];
+    int[] y = new int[total];
+    int row = 0;
+    for (int i = 0; i < featureSets.length; i++) {
+      FrameFeatures features = featureSets[i];
+      for (int f = 0; f < features.size(); f++, row++) {
+        features.copyTo(f, x[row]);
+        y[row] = isBoundary(features.pts(f), boundarySets[i]) ? 1 : 0;
+      }
+    }
+
+    int[] sample = balancedSample(y, NEGATIVE_RATIO, new Random(42));
+    if (sample.length == 0) {
+      System.err.println("정답과 일치하는 경계 프레임이 없습니다. 정답 파일의 시간을 확인하세요.");
+      System.exit(1);
+    }
+    double[][] trainX = new double[sample.length][];
+    int[] trainY = new int[sample.length];
+    for (int i = 0; i < sample.length; i++) {
+      trainX[i] = x[sample[i]];
+      trainY[i] = y[sample[i]];
+    }
+
+    LogisticRegression model = LogisticRegression.fit(trainX, trainY);
+
+    int[] predicted = model.predict(x);
+    int truePositives = 0;
+    int falsePositives = 0;
+    int falseNegatives = 0;
+    for (int i = 0; i < total; i++) {
+      if (predicted[i] == 1 && y[i] == 1) {
+        truePositives++;
+      } else if (predicted[i] == 1) {
+        falsePositives++;
+      } else if (y[i] == 1) {
+        falseNegatives++;
+      }
+    }
+    System.out.printf(
+        "경계 클래스 (전체 %d frames): precision=%.3f, recall=%.3f (TP=%d, FP=%d, FN=%d)%n",
+        total,
+        ratio(truePositives, truePositives + falsePositives),
+        ratio(truePositives, truePositives + falseNegatives),
+        truePositives,
+        falsePositives,
+        falseNegatives);
+
+    if (modelOut.getParent() != null) {
+      Files.createDirectories(modelOut.getParent());
+    }
+    smile.io.Write.object(model, modelOut);
+    System.out.printf(
+        "모델 저장 완료: %s (%d/%d samples)%n", modelOut.toAbsolutePath(), sample.length, total);
+  }
+
+  /**
+   * 경계 프레임은 모두, 비경계 프레임은 경계 프레임 수의 {@code negativeRatio}배까지 무작위로 골라 학습할 행 번호를 반환합니다.
+   *
+   * @param labels 프레임 라벨 (1 = 경계)
+   * @param negativeRatio 경계 프레임 대비 비경계 프레임 배수
+   * @param random 추출용 난수 생성기
+   * @return 학습할 행 번호 (오름차순), 경계 프레임이 없으면 빈 배열
+   */
+  static int[] balancedSample(int[] labels, int negativeRatio, Random random) {
+    int positives = 0;
+    for (int label : labels) {
+      positives += label;
+    }
+    if (positives == 0) {
+      return new int[0];
+    }
+
+    int negatives = labels.length - positives;
+    int keepNegatives = (int) Math.min(negatives, (long) positives * negativeRatio);
+    int[] sample = new int[positives + keepNegatives];
+    int count = 0;
+    int seenNegatives = 0;
+    int selectedNegatives = 0;
+    for (int i = 0; i < labels.length; i++) {
+      if (labels[i] == 1) {
+        sample[count++] = i;
+      } else {
+        // 선택 표본 추출: 남은 후보 중 아직 필요한 수의 비율로 선택하면 정확히 keepNegatives개가 균등하게 뽑힘
+        if (random.nextInt(negatives - seenNegatives) < keepNegatives - selectedNegatives) {
+          sample[count++] = i;
+          selectedNegatives++;
+        }
+        seenNegatives++;
+      }
+    }
+    return sample;
+  }
+
+  private static double ratio(int numerator, int denominator) {
+    return denominator == 0 ? 0.0 : (double) numerator / denominator;
+  }
+
+  private static double[] readBoundaries(Path labels) throws IOException {
+    List<String> lines = Files.readAllLines(labels);
+    return lines.stream()
+        .map(String::trim)
+        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+        .mapToDouble(Double::parseDouble)
+        .sorted()
+        .toArray();
+  }
+
+  static boolean isBoundary(double pts, double[] sortedBoundaries) {
+    int idx = Arrays.binarySearch(sortedBoundaries, pts);
+    if (idx >= 0) return true;
+    int insertion = -idx - 1;
+    return (insertion < sortedBoundaries.length
+            && sortedBoundaries[insertion] - pts <= LABEL_TOLERANCE_SEC)
+        || (insertion > 0 && pts - sortedBoundaries[insertion - 1] <= LABEL_TOLERANCE_SEC);
+  }
+}
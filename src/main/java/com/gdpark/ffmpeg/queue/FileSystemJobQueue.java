@@ -0,0 +1,485 @@
+package com.gdpark.ffmpeg.queue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 여러 노드가 공유하는 디렉토리(NFS 등)를 저장소로 사용하는 작업 큐입니다.
+ *
+ * <p>디렉토리 구조는 다음과 같습니다.
+ *
+ * <ul>
+ *   <li>`jobs/{jobId}.job`: 대기/실행 중인 작업 (작업 ID는 등록 시각으로 시작하므로 이름순 = 등록순)
+ *   <li>`leases/{jobId}.{attempt}.lease`: 작업 점유 정보 (점유자, 만료 시각)
+ *   <li>`done/{jobId}.result`: 완료/실패한 작업의 결과
+ * </ul>
+ *
+ * <p>점유는 임시 파일을 만든 뒤 하드 링크로 점유 파일 이름을 배타적으로 생성하는 방식으로 원자적으로 이루어집니다. 점유한 노드는
+ * 백그라운드에서 주기적으로 만료 시각을 갱신(하트비트)하며, 노드가 중단되어 만료 시각이 지나면 다른 노드가 다음 시도
+ * 번호(`attempt + 1`)의 점유 파일을 만들어 작업을 가져갑니다. 기존 파일을 지우지 않고 새 번호로만 점유하므로 여러 노드가 동시에
+ * 회수를 시도해도 한 노드만 성공합니다. 만료 판정은 각 노드의 시계를 사용하므로 노드 간 시계가 하트비트 주기보다 충분히 작은 오차로
+ * 동기화되어 있어야 합니다. 점유가 {@code maxAttempts}번 만료된 작업(노드를 중단시키거나 멈춘 채 하트비트만 유지되다
+ * 중단된 작업 등)은 더 회수하지 않고 실패로 기록합니다.
+ *
+ * <p>작업 파일은 등록 후 바뀌지 않으므로 읽은 작업은 메모리에 캐시하여, 폴링마다 모든 작업 파일을 다시 읽지 않습니다. 완료 결과는
+ * {@link InMemoryJobQueue}와 같이 최근 {@value #MAX_FINISHED}건만 보관합니다.
+ */
+public class FileSystemJobQueue implements JobQueue, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(FileSystemJobQueue.class);
+
+  private static final String JOB_SUFFIX = ".job";
+  private static final String LEASE_SUFFIX = ".lease";
+  private static final String RESULT_SUFFIX = ".result";
+  private static final String PARAM_PREFIX = "param.";
+  private static final String RESULT_PREFIX = "result.";
+
+  /** 보관할 최대 완료 결과 수 */
+  static final int MAX_FINISHED = 10_000;
+
+  /** 완료 결과 정리 주기 (이 노드에서 완료한 작업 수) */
+  private static final int PRUNE_INTERVAL = 100;
+
+  /** 기본 최대 점유 시도 횟수 */
+  static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  private final Path jobsDir;
+  private final Path leasesDir;
+  private final Path doneDir;
+  private final String nodeId;
+  private final Duration leaseTtl;
+  private final Duration heartbeatInterval;
+  private final int maxAttempts;
+  private final ScheduledExecutorService heartbeats;
+  private final Map<String, ScheduledFuture<?>> activeLeases = new ConcurrentHashMap<>();
+  /** 하트비트 갱신과 중지를 직렬화 (중지 후에는 점유 파일을 다시 쓰지 않도록) */
+  private final Object heartbeatLock = new Object();
+  private final Map<String, WorkItem> jobCache = new ConcurrentHashMap<>();
+  private final AtomicInteger finishedSincePrune = new AtomicInteger();
+
+  public FileSystemJobQueue(
+      Path root, String nodeId, Duration leaseTtl, Duration heartbeatInterval) throws IOException {
+    this(root, nodeId, leaseTtl, heartbeatInterval, DEFAULT_MAX_ATTEMPTS);
+  }
+
+  /**
+   * @param root 큐 디렉토리 (모든 노드가 공유)
+   * @param nodeId 이 노드의 식별자
+   * @param leaseTtl 하트비트 없이 점유가 유지되는 시간
+   * @param heartbeatInterval 점유 갱신 주기 (leaseTtl보다 충분히 짧아야 함)
+   * @param maxAttempts 작업당 최대 점유 시도 횟수 (초과하면 실패 처리)
+   * @throws IOException 디렉토리 생성 실패 시 발생
+   */
+  public FileSystemJobQueue(
+      Path root, String nodeId, Duration leaseTtl, Duration heartbeatInterval, int maxAttempts)
+      throws IOException {
+    if (heartbeatInterval.compareTo(leaseTtl) >= 0) {
+      throw new IllegalArgumentException("heartbeatInterval은 leaseTtl보다 짧아야 합니다.");
+    }
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts는 1 이상이어야 합니다.");
+    }
+    this.jobsDir = Files.createDirectories(root.resolve("jobs"));
+    this.leasesDir = Files.createDirectories(root.resolve("leases"));
+    this.doneDir = Files.createDirectories(root.resolve("done"));
+    this.nodeId = nodeId;
+    this.leaseTtl = leaseTtl;
+    this.heartbeatInterval = heartbeatInterval;
+    this.maxAttempts = maxAttempts;
+    this.heartbeats =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "job-lease-heartbeat");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @Override
+  public String nodeId() {
+    return nodeId;
+  }
+
+  @Override
+  public String submit(WorkItem item) throws IOException {
+    String jobId =
+        String.format(
+            "%013d-%s", System.currentTimeMillis(), UUID.randomUUID().toString().substring(0, 8));
+    Properties job = new Properties();
+    job.setProperty("type", item.type().name());
+    item.params().forEach((key, value) -> job.setProperty(PARAM_PREFIX + key, value));
+    writeAtomically(jobsDir.resolve(jobId + JOB_SUFFIX), job);
+    return jobId;
+  }
+
+  @Override
+  public Optional<Lease> claim(String owner, Set<WorkItem.Type> types) throws IOException {
+    Map<String, Integer> attempts = currentAttempts();
+    List<String> jobIds = listJobIds();
+    jobCache.keySet().retainAll(new HashSet<>(jobIds));
+    for (String jobId : jobIds) {
+      WorkItem item = jobCache.get(jobId);
+      if (item == null) {
+        item = readJob(jobId);
+        if (item == null) {
+          continue;
+        }
+        jobCache.put(jobId, item);
+      }
+      if (!types.contains(item.type())) {
+        continue;
+      }
+
+      int attempt = attempts.getOrDefault(jobId, 0);
+      if (attempt > 0) {
+        Path current = leaseFile(jobId, attempt);
+        Properties lease = readProperties(current);
+        if (lease == null || !isExpired(current, lease)) {
+          continue;
+        }
+        log.warn(
+            "만료된 작업 점유 회수: Job={}, PreviousOwner={}, Attempt={}",
+            jobId,
+            lease.getProperty("owner"),
+            attempt);
+      }
+
+      if (Files.exists(resultFile(jobId))) {
+        // 완료 후 정리 전에 중단된 경우
+        cleanup(jobId);
+        continue;
+      }
+
+      Lease lease = new Lease(jobId, item, owner, attempt + 1);
+      if (tryAcquire(lease)) {
+        if (lease.attempt() > maxAttempts) {
+          // 다음 시도 번호를 점유한 노드 하나만 실패를 기록
+          log.error("최대 시도 횟수를 넘어 작업을 실패 처리합니다: Job={}, Attempts={}", jobId, attempt);
+          fail(lease, "최대 시도 횟수(" + maxAttempts + ") 동안 작업이 완료되지 않았습니다.");
+          continue;
+        }
+        startHeartbeat(lease);
+        return Optional.of(lease);
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public void complete(Lease lease, Map<String, String> result) throws IOException {
+    Properties done = new Properties();
+    done.setProperty("state", JobStatus.State.DONE.name());
+    result.forEach((key, value) -> done.setProperty(RESULT_PREFIX + key, value));
+    finish(lease, done);
+  }
+
+  @Override
+  public void fail(Lease lease, String error) throws IOException {
+    Properties done = new Properties();
+    done.setProperty("state", JobStatus.State.FAILED.name());
+    done.setProperty("error", error == null ? "" : error);
+    finish(lease, done);
+  }
+
+  private void finish(Lease lease, Properties done) throws IOException {
+    stopHeartbeat(lease);
+    if (isLost(lease)) {
+      log.warn(
+          "점유가 만료되어 다른 작업자가 처리 중인 작업의 결과를 버립니다: Job={}, Owner={}",
+          lease.jobId(),
+          lease.owner());
+      return;
+    }
+    done.setProperty("owner", lease.owner());
+    writeAtomically(resultFile(lease.jobId()), done);
+    cleanup(lease.jobId());
+    if (finishedSincePrune.incrementAndGet() >= PRUNE_INTERVAL) {
+      finishedSincePrune.set(0);
+      prune();
+    }
+  }
+
+  /**
+   * 오래된 완료 결과를 {@value #MAX_FINISHED}건만 남기고 지우며, 작업 파일이 없는 만료된 점유 파일(정리 도중 중단된 노드가
+   * 남긴 것)을 삭제합니다.
+   */
+  void prune() throws IOException {
+    List<String> results = new ArrayList<>(listNames(doneDir, RESULT_SUFFIX));
+    if (results.size() > MAX_FINISHED) {
+      // 작업 ID는 등록 시각으로 시작하므로 이름순 = 등록순
+      results.sort(null);
+      for (String name : results.subList(0, results.size() - MAX_FINISHED)) {
+        Files.deleteIfExists(doneDir.resolve(name));
+      }
+    }
+
+    for (Map.Entry<String, Integer> entry : currentAttempts().entrySet()) {
+      String jobId = entry.getKey();
+      if (!Files.exists(jobFile(jobId)) && !isLive(jobId, entry.getValue())) {
+        cleanup(jobId);
+      }
+    }
+  }
+
+  @Override
+  public Optional<JobStatus> status(String jobId) throws IOException {
+    Properties done = readProperties(resultFile(jobId));
+    if (done != null) {
+      Map<String, String> result = new HashMap<>();
+      for (String key : done.stringPropertyNames()) {
+        if (key.startsWith(RESULT_PREFIX)) {
+          result.put(key.substring(RESULT_PREFIX.length()), done.getProperty(key));
+        }
+      }
+      return Optional.of(
+          new JobStatus(
+              jobId,
+              JobStatus.State.valueOf(done.getProperty("state")),
+              result,
+              done.getProperty("error")));
+    }
+    if (!Files.exists(jobFile(jobId))) {
+      return Optional.empty();
+    }
+    int attempt = currentAttempts().getOrDefault(jobId, 0);
+    boolean running = attempt > 0 && isLive(jobId, attempt);
+    return Optional.of(
+        new JobStatus(
+            jobId, running ? JobStatus.State.RUNNING : JobStatus.State.PENDING, null, null));
+  }
+
+  @Override
+  public int depth() {
+    try {
+      Map<String, Integer> attempts = currentAttempts();
+      int depth = 0;
+      for (String jobId : listJobIds()) {
+        Integer attempt = attempts.get(jobId);
+        if (attempt == null || !isLive(jobId, attempt)) {
+          depth++;
+        }
+      }
+      return depth;
+    } catch (IOException e) {
+      log.debug("작업 큐 조회 실패: {}", e.getMessage());
+      return 0;
+    }
+  }
+
+  @Override
+  public void close() {
+    heartbeats.shutdownNow();
+  }
+
+  private boolean tryAcquire(Lease lease) throws IOException {
+    Path target = leaseFile(lease.jobId(), lease.attempt());
+    Path temp = leasesDir.resolve("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    writeProperties(temp, leaseProperties(lease));
+    try {
+      // link(2)는 대상이 이미 있으면 실패하므로 한 노드만 점유에 성공
+      Files.createLink(target, temp);
+      return true;
+    } catch (FileAlreadyExistsException e) {
+      return false;
+    } catch (UnsupportedOperationException e) {
+      // 하드 링크를 지원하지 않는 파일 시스템: O_EXCL 생성으로 대체 (내용이 비어 보이는 동안은 파일 시각으로 만료 판정)
+      try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW)) {
+        leaseProperties(lease).store(out, null);
+        return true;
+      } catch (FileAlreadyExistsException alreadyExists) {
+        return false;
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private void startHeartbeat(Lease lease) {
+    long intervalMs = heartbeatInterval.toMillis();
+    activeLeases.put(
+        lease.jobId(),
+        heartbeats.scheduleAtFixedRate(
+            () -> renew(lease), intervalMs, intervalMs, TimeUnit.MILLISECONDS));
+  }
+
+  private void stopHeartbeat(Lease lease) {
+    ScheduledFuture<?> heartbeat;
+    synchronized (heartbeatLock) {
+      heartbeat = activeLeases.remove(lease.jobId());
+    }
+    if (heartbeat != null) {
+      heartbeat.cancel(false);
+    }
+  }
+
+  private void renew(Lease lease) {
+    synchronized (heartbeatLock) {
+      // 이미 완료/실패 처리된 작업: 정리된 점유 파일을 다시 만들지 않음
+      if (!activeLeases.containsKey(lease.jobId())) {
+        return;
+      }
+      try {
+        if (isLost(lease)) {
+          log.warn("작업 점유를 잃었습니다: Job={}, Owner={}", lease.jobId(), lease.owner());
+          stopHeartbeat(lease);
+          return;
+        }
+        writeAtomically(leaseFile(lease.jobId(), lease.attempt()), leaseProperties(lease));
+      } catch (IOException e) {
+        log.warn("작업 점유 갱신 실패: Job={} ({})", lease.jobId(), e.getMessage());
+      }
+    }
+  }
+
+  private Properties leaseProperties(Lease lease) {
+    Properties properties = new Properties();
+    properties.setProperty("owner", lease.owner());
+    properties.setProperty(
+        "expiresAt", Long.toString(System.currentTimeMillis() + leaseTtl.toMillis()));
+    return properties;
+  }
+
+  /** 다른 작업자가 만료된 점유를 회수해 다음 시도 번호로 점유했는지 확인합니다. */
+  private boolean isLost(Lease lease) {
+    return Files.exists(leaseFile(lease.jobId(), lease.attempt() + 1));
+  }
+
+  private boolean isLive(String jobId, int attempt) throws IOException {
+    Path path = leaseFile(jobId, attempt);
+    Properties lease = readProperties(path);
+    return lease != null && !isExpired(path, lease);
+  }
+
+  private boolean isExpired(Path path, Properties lease) throws IOException {
+    String expiresAt = lease.getProperty("expiresAt");
+    long deadline =
+        expiresAt != null
+            ? Long.parseLong(expiresAt)
+            : Files.getLastModifiedTime(path).toMillis() + leaseTtl.toMillis();
+    return deadline < System.currentTimeMillis();
+  }
+
+  /** 작업 ID별 가장 큰 점유 시도 번호 */
+  private Map<String, Integer> currentAttempts() throws IOException {
+    Map<String, Integer> attempts = new HashMap<>();
+    for (String name : listNames(leasesDir, LEASE_SUFFIX)) {
+      String base = name.substring(0, name.length() - LEASE_SUFFIX.length());
+      int dot = base.lastIndexOf('.');
+      if (dot > 0) {
+        attempts.merge(
+            base.substring(0, dot), Integer.parseInt(base.substring(dot + 1)), Math::max);
+      }
+    }
+    return attempts;
+  }
+
+  private List<String> listJobIds() throws IOException {
+    List<String> jobIds = new ArrayList<>();
+    for (String name : listNames(jobsDir, JOB_SUFFIX)) {
+      jobIds.add(name.substring(0, name.length() - JOB_SUFFIX.length()));
+    }
+    jobIds.sort(null);
+    return jobIds;
+  }
+
+  private static List<String> listNames(Path dir, String suffix) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files
+          .map(path -> path.getFileName().toString())
+          .filter(name -> !name.startsWith(".") && name.endsWith(suffix))
+          .toList();
+    }
+  }
+
+  private WorkItem readJob(String jobId) throws IOException {
+    Properties job = readProperties(jobFile(jobId));
+    if (job == null) {
+      return null;
+    }
+    Map<String, String> params = new HashMap<>();
+    for (String key : job.stringPropertyNames()) {
+      if (key.startsWith(PARAM_PREFIX)) {
+        params.put(key.substring(PARAM_PREFIX.length()), job.getProperty(key));
+      }
+    }
+    return new WorkItem(WorkItem.Type.valueOf(job.getProperty("type")), params);
+  }
+
+  private void cleanup(String jobId) throws IOException {
+    jobCache.remove(jobId);
+    Files.deleteIfExists(jobFile(jobId));
+    for (String name : listNames(leasesDir, LEASE_SUFFIX)) {
+      if (name.startsWith(jobId + ".")) {
+        Files.deleteIfExists(leasesDir.resolve(name));
+      }
+    }
+  }
+
+  private Path jobFile(String jobId) {
+    return jobsDir.resolve(jobId + JOB_SUFFIX);
+  }
+
+  private Path leaseFile(String jobId, int attempt) {
+    return leasesDir.resolve(jobId + "." + attempt + LEASE_SUFFIX);
+  }
+
+  private Path resultFile(String jobId) {
+    return doneDir.resolve(jobId + RESULT_SUFFIX);
+  }
+
+  /** 같은 디렉토리의 임시 파일에 쓴 뒤 rename하여, 다른 노드가 쓰다 만 파일을 읽지 않도록 합니다. */
+  private static void writeAtomically(Path target, Properties properties) throws IOException {
+    Path temp = target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    writeProperties(temp, properties);
+    try {
+      Files.move(
+          temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static void writeProperties(Path path, Properties properties) throws IOException {
+    try (OutputStream out = Files.newOutputStream(path)) {
+      properties.store(out, null);
+    }
+  }
+
+  /** 파일이 없으면(다른 노드가 정리한 경우) null을 반환합니다. */
+  private static Properties readProperties(Path path) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(path)) {
+      properties.load(in);
+      return properties;
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.gdpark.ffmpeg.queue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 단일 JVM 안에서 동작하는 작업 큐입니다. (기본값)
+ *
+ * <p>점유한 작업자와 큐가 같은 프로세스에 있으므로 점유 만료/하트비트는 사용하지 않습니다. 완료된 작업 상태는 최근
+ * {@value #MAX_FINISHED}건만 보관합니다.
+ */
+public class InMemoryJobQueue implements JobQueue {
+
+  private static final int MAX_FINISHED = 10_000;
+
+  private final String nodeId;
+  private final LinkedHashMap<String, WorkItem> pending = new LinkedHashMap<>();
+  private final Map<String, Lease> running = new HashMap<>();
+  private final Map<String, JobStatus> finished =
+      new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JobStatus> eldest) {
+          return size() > MAX_FINISHED;
+        }
+      };
+
+  public InMemoryJobQueue(String nodeId) {
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public String nodeId() {
+    return nodeId;
+  }
+
+  @Override
+  public synchronized String submit(WorkItem item) {
+    String jobId = UUID.randomUUID().toString();
+    pending.put(jobId, item);
+    return jobId;
+  }
+
+  @Override
+  public synchronized Optional<Lease> claim(String owner, Set<WorkItem.Type> types) {
+    Iterator<Map.Entry<String, WorkItem>> it = pending.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, WorkItem> entry = it.next();
+      if (types.contains(entry.getValue().type())) {
+        it.remove();
+        Lease lease = new Lease(entry.getKey(), entry.getValue(), owner, 1);
+        running.put(lease.jobId(), lease);
+        return Optional.of(lease);
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public synchronized void complete(Lease lease, Map<String, String> result) {
+    finish(lease, new JobStatus(lease.jobId(), JobStatus.State.DONE, result, null));
+  }
+
+  @Override
+  public synchronized void fail(Lease lease, String error) {
+    finish(lease, new JobStatus(lease.jobId(), JobStatus.State.FAILED, null, error));
+  }
+
+  private void finish(Lease lease, JobStatus status) {
+    running.remove(lease.jobId());
+    finished.put(lease.jobId(), status);
+  }
+
+  @Override
+  public synchronized Optional<JobStatus> status(String jobId) {
+    if (pending.containsKey(jobId)) {
+      return Optional.of(new JobStatus(jobId, JobStatus.State.PENDING, null, null));
+    }
+    if (running.containsKey(jobId)) {
+      return Optional.of(new JobStatus(jobId, JobStatus.State.RUNNING, null, null));
+    }
+    return Optional.ofNullable(finished.get(jobId));
+  }
+
+  @Override
+  public synchronized int depth() {
+    return pending.size();
+  }
+}
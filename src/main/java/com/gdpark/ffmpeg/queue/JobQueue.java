@@ -0,0 +1,92 @@
+package com.gdpark.ffmpeg.queue;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 여러 노드가 미디어 작업(장면 감지, 클립 구간, 오디오 추출)을 나눠 처리하기 위한 작업 큐입니다.
+ *
+ * <p>작업자는 {@link #claim(String, Set)}으로 작업을 점유하고, 처리가 끝나면 {@link #complete(Lease, Map)} 또는
+ * {@link #fail(Lease, String)}을 호출합니다. 점유한 노드가 중단되면 점유가 만료되어 다른 노드가 다시 가져가므로, 작업은
+ * 최소 한 번(at-least-once) 실행됩니다. 작업은 같은 입력에 대해 같은 출력 파일을 덮어쓰도록 작성되어야 합니다.
+ */
+public interface JobQueue {
+
+  /** 이 큐 인스턴스를 사용하는 노드의 식별자 */
+  String nodeId();
+
+  /**
+   * 작업을 등록합니다.
+   *
+   * @param item 작업 내용
+   * @return 작업 ID
+   * @throws IOException 큐 저장소 기록 실패 시 발생
+   */
+  String submit(WorkItem item) throws IOException;
+
+  /**
+   * 대기 중인 작업 하나를 등록 순서대로 점유합니다.
+   *
+   * @param owner 작업자 식별자
+   * @param types 처리할 수 있는 작업 종류
+   * @return 점유한 작업, 대기 중인 작업이 없으면 빈 값
+   * @throws IOException 큐 저장소 접근 실패 시 발생
+   */
+  Optional<Lease> claim(String owner, Set<WorkItem.Type> types) throws IOException;
+
+  /**
+   * 점유한 작업을 완료 처리합니다.
+   *
+   * @param lease 점유 정보
+   * @param result 결과 값
+   * @throws IOException 큐 저장소 기록 실패 시 발생
+   */
+  void complete(Lease lease, Map<String, String> result) throws IOException;
+
+  /**
+   * 점유한 작업을 실패 처리합니다. 실패한 작업은 재시도하지 않습니다.
+   *
+   * @param lease 점유 정보
+   * @param error 오류 메시지
+   * @throws IOException 큐 저장소 기록 실패 시 발생
+   */
+  void fail(Lease lease, String error) throws IOException;
+
+  /**
+   * 작업 상태를 조회합니다.
+   *
+   * @param jobId 작업 ID
+   * @return 작업 상태, 알 수 없는 작업이면 빈 값
+   * @throws IOException 큐 저장소 접근 실패 시 발생
+   */
+  Optional<JobStatus> status(String jobId) throws IOException;
+
+  /** 점유되지 않고 대기 중인 작업 수를 반환합니다. */
+  int depth();
+
+  /**
+   * 점유한 작업을 실행하고 결과에 따라 완료/실패 처리합니다.
+   *
+   * @param lease 점유 정보
+   * @param handler 작업 실행 로직
+   * @throws IOException 큐 저장소 기록 실패 시 발생 (작업 실패는 {@link #fail(Lease, String)}으로 기록)
+   */
+  default void execute(Lease lease, Handler handler) throws IOException {
+    Map<String, String> result;
+    try {
+      result = handler.handle(lease);
+    } catch (Exception e) {
+      fail(lease, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+      return;
+    }
+    complete(lease, result);
+  }
+
+  /** 작업 실행 로직 */
+  @FunctionalInterface
+  interface Handler {
+    Map<String, String> handle(Lease lease) throws Exception;
+  }
+}
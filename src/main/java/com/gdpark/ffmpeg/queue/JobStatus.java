@@ -0,0 +1,31 @@
+package com.gdpark.ffmpeg.queue;
+
+import java.util.Map;
+
+/**
+ * 작업 상태 조회 결과입니다.
+ *
+ * @param jobId 작업 ID
+ * @param state 작업 상태
+ * @param result 완료 시 결과 값 (출력 파일 경로 등), 그 외에는 빈 맵
+ * @param error 실패 시 오류 메시지
+ */
+public record JobStatus(String jobId, State state, Map<String, String> result, String error) {
+
+  /** 작업 상태 */
+  public enum State {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    /** 완료 또는 실패로 더 이상 바뀌지 않는 상태인지 확인합니다. */
+    public boolean isTerminal() {
+      return this == DONE || this == FAILED;
+    }
+  }
+
+  public JobStatus {
+    result = result == null ? Map.of() : Map.copyOf(result);
+  }
+}
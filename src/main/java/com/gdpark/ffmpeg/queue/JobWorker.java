@@ -0,0 +1,139 @@
+package com.gdpark.ffmpeg.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gdpark.ffmpeg.config.JobQueueProperties;
+import com.gdpark.ffmpeg.dto.SceneDetectionResponse;
+import com.gdpark.ffmpeg.service.MediaProcessingService;
+import com.gdpark.ffmpeg.service.SceneDetectionService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 이 노드에서 {@link JobQueue}의 작업을 가져와 실행하는 작업자입니다.
+ *
+ * <p>애플리케이션 준비 완료 후 `jobs.workers`개의 데몬 스레드를 시작하며, 각 스레드는 대기 중인 작업을 점유해 실행하고 결과를
+ * 큐에 기록합니다. 장면 감지 작업의 응답은 작업 디렉토리의 `results/{jobId}.json`에 저장합니다.
+ */
+@Component
+public class JobWorker {
+
+  private static final Logger log = LoggerFactory.getLogger(JobWorker.class);
+
+  private static final Set<WorkItem.Type> ALL_TYPES = EnumSet.allOf(WorkItem.Type.class);
+
+  private final JobQueue jobQueue;
+  private final JobQueueProperties properties;
+  private final SceneDetectionService sceneDetectionService;
+  private final MediaProcessingService mediaProcessingService;
+  private final ObjectMapper objectMapper;
+  private final String workDir;
+  private final List<Thread> threads = new ArrayList<>();
+  private volatile boolean running;
+
+  @Autowired
+  public JobWorker(
+      JobQueue jobQueue,
+      JobQueueProperties properties,
+      SceneDetectionService sceneDetectionService,
+      MediaProcessingService mediaProcessingService,
+      ObjectMapper objectMapper,
+      @Value("${ffmpeg.work-dir}") String workDir) {
+    this.jobQueue = jobQueue;
+    this.properties = properties;
+    this.sceneDetectionService = sceneDetectionService;
+    this.mediaProcessingService = mediaProcessingService;
+    this.objectMapper = objectMapper;
+    this.workDir = workDir;
+  }
+
+  /** 설정된 수만큼 작업자 스레드를 시작합니다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void start() {
+    if (running || properties.workers() <= 0) {
+      return;
+    }
+    running = true;
+    for (int i = 1; i <= properties.workers(); i++) {
+      Thread thread = new Thread(this::poll, "job-worker-" + i);
+      thread.setDaemon(true);
+      thread.start();
+      threads.add(thread);
+    }
+    log.info("작업자 시작: Node={}, Workers={}", jobQueue.nodeId(), properties.workers());
+  }
+
+  /** 작업자 스레드를 중지합니다. 실행 중이던 작업의 점유는 만료 후 다른 노드가 가져갑니다. */
+  @PreDestroy
+  public synchronized void stop() {
+    running = false;
+    threads.forEach(Thread::interrupt);
+    threads.clear();
+  }
+
+  private void poll() {
+    String owner = jobQueue.nodeId() + "/" + Thread.currentThread().getName();
+    while (running) {
+      try {
+        Optional<Lease> lease = jobQueue.claim(owner, ALL_TYPES);
+        if (lease.isPresent()) {
+          log.debug("작업 실행: Job={}, Type={}", lease.get().jobId(), lease.get().item().type());
+          jobQueue.execute(lease.get(), this::handle);
+        } else {
+          Thread.sleep(properties.pollInterval().toMillis());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (IOException e) {
+        log.error("작업 큐 처리 중 오류 발생", e);
+        try {
+          Thread.sleep(properties.pollInterval().toMillis());
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private Map<String, String> handle(Lease lease) throws IOException {
+    WorkItem item = lease.item();
+    return switch (item.type()) {
+      case SCENES -> {
+        SceneDetectionResponse response =
+            sceneDetectionService.detectScenes(
+                item.param("path"),
+                item.doubleParam("threshold"),
+                Boolean.parseBoolean(item.param("snapToSilence")),
+                Boolean.parseBoolean(item.param("deduplicate")));
+        Path resultPath = Paths.get(workDir, "results", lease.jobId() + ".json");
+        Files.createDirectories(resultPath.getParent());
+        objectMapper.writeValue(resultPath.toFile(), response);
+        yield Map.of(
+            "totalScenes",
+            Integer.toString(response.totalScenes()),
+            "resultPath",
+            resultPath.toAbsolutePath().toString());
+      }
+      case CLIP -> sceneDetectionService.processClip(item);
+      case AUDIO -> Map.of("outputPath", mediaProcessingService.extractAudio(item.param("path")));
+    };
+  }
+}
@@ -0,0 +1,11 @@
+package com.gdpark.ffmpeg.queue;
+
+/**
+ * 작업자가 큐에서 가져간(claim) 작업의 점유 정보입니다.
+ *
+ * @param jobId 작업 ID
+ * @param item 작업 내용
+ * @param owner 점유한 작업자 식별자 (노드 ID + 스레드 이름)
+ * @param attempt 점유 시도 번호 (만료된 점유를 다른 작업자가 가져갈 때마다 증가)
+ */
+public record Lease(String jobId, WorkItem item, String owner, int attempt) {}
@@ -0,0 +1,78 @@
+package com.gdpark.ffmpeg.queue;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 작업 큐에 등록되는 미디어 작업 단위입니다.
+ *
+ * <p>파라미터는 파일 기반 큐에도 그대로 기록할 수 있도록 문자열 맵으로 보관합니다.
+ *
+ * @param type 작업 종류
+ * @param params 작업 파라미터
+ */
+public record WorkItem(Type type, Map<String, String> params) {
+
+  /** 작업 종류 */
+  public enum Type {
+    /** 장면 감지 전체 (클립 구간은 다시 {@link #CLIP} 작업으로 분배됨) */
+    SCENES,
+    /** 단일 장면 구간의 클립 + 썸네일 생성 */
+    CLIP,
+    /** 오디오 추출 */
+    AUDIO
+  }
+
+  public WorkItem {
+    params = Map.copyOf(params);
+  }
+
+  /** 장면 감지 작업을 생성합니다. */
+  public static WorkItem scenes(
+      String inputPath, double threshold, boolean snapToSilence, boolean deduplicate) {
+    return new WorkItem(
+        Type.SCENES,
+        Map.of(
+            "path",
+            inputPath,
+            "threshold",
+            Double.toString(threshold),
+            "snapToSilence",
+            Boolean.toString(snapToSilence),
+            "deduplicate",
+            Boolean.toString(deduplicate)));
+  }
+
+  /** 오디오 추출 작업을 생성합니다. */
+  public static WorkItem audio(String inputPath) {
+    return new WorkItem(Type.AUDIO, Map.of("path", inputPath));
+  }
+
+  /** 장면 구간 하나의 클립/썸네일 생성 작업을 생성합니다. */
+  public static WorkItem clip(
+      String inputPath, double start, double end, String clipPath, String thumbnailPath) {
+    return new WorkItem(
+        Type.CLIP,
+        Map.of(
+            "path", inputPath,
+            "start", Double.toString(start),
+            "end", Double.toString(end),
+            "clipPath", clipPath,
+            "thumbnailPath", thumbnailPath));
+  }
+
+  /** 문자열 파라미터를 반환합니다. */
+  public String param(String name) {
+    String value = params.get(name);
+    if (value == null) {
+      throw new IllegalArgumentException(
+          String.format(Locale.ROOT, "%s 작업에 '%s' 파라미터가 없습니다.", type, name));
+    }
+    return value;
+  }
+
+  /** 숫자 파라미터를 반환합니다. */
+  public double doubleParam(String name) {
+    return Double.parseDouble(param(name));
+  }
+}
@@ -0,0 +1,156 @@
+package com.gdpark.ffmpeg.service;
+
+import com.gdpark.ffmpeg.audio.PcmAnalyzer;
+import com.gdpark.ffmpeg.dto.AudioAnalysisResponse;
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import net.bramp.ffmpeg.FFmpeg;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오디오 트랙을 임시 파일 없이 스트리밍으로 분석하는 서비스입니다.
+ *
+ * <p>ffmpeg가 디코딩한 PCM(`s16le`, 48kHz, 스테레오)을 표준 출력 파이프로 받아 재사용 버퍼로 읽으면서 {@link PcmAnalyzer}로
+ * RMS/peak 엔벨로프, 무음 구간, 통합 라우드니스를 한 번에 계산합니다. 무음 구간은 장면 경계를 보정하는 데에도 사용됩니다.
+ */
+@Service
+public class AudioAnalysisService {
+
+  private static final Logger log = LoggerFactory.getLogger(AudioAnalysisService.class);
+
+  /** 기본 엔벨로프/무음 판정 윈도우 (초) */
+  public static final double DEFAULT_WINDOW_SECONDS = 0.05;
+
+  /** 무음으로 볼 RMS 상한 (dBFS) */
+  static final double SILENCE_THRESHOLD_DB = -50.0;
+
+  /** 무음 구간으로 인정할 최소 길이 (초) */
+  static final double MIN_SILENCE_SECONDS = 0.3;
+
+  private static final int CHANNELS = 2;
+
+  /** 파이프 읽기 버퍼 크기 (프레임 단위 정렬) */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final FFmpeg ffmpeg;
+  private final FfmpegMetrics metrics;
+  private final FfmpegThreadAllocator threadAllocator;
+
+  @Autowired
+  public AudioAnalysisService(
+      @Lazy FFmpeg ffmpeg, FfmpegMetrics metrics, FfmpegThreadAllocator threadAllocator) {
+    this.ffmpeg = ffmpeg;
+    this.metrics = metrics;
+    this.threadAllocator = threadAllocator;
+  }
+
+  /**
+   * 영상/오디오 파일의 오디오 트랙을 분석합니다.
+   *
+   * @param inputPath 입력 파일 경로
+   * @param windowSeconds 엔벨로프/무음 판정 윈도우 길이 (초)
+   * @return 분석 결과
+   * @throws IOException ffmpeg 실행 실패 또는 오디오 트랙이 없는 경우 발생
+   */
+  public AudioAnalysisResponse analyze(String inputPath, double windowSeconds) throws IOException {
+    PcmAnalyzer analyzer = analyzePcm(inputPath, windowSeconds);
+
+    List<AudioAnalysisResponse.Silence> silences = new ArrayList<>(analyzer.silenceStarts().size());
+    for (int i = 0; i < analyzer.silenceStarts().size(); i++) {
+      silences.add(
+          new AudioAnalysisResponse.Silence(
+              analyzer.silenceStarts().get(i), analyzer.silenceEnds().get(i)));
+    }
+    double loudness = analyzer.integratedLoudness();
+    return new AudioAnalysisResponse(
+        analyzer.duration(),
+        Double.isInfinite(loudness) ? null : loudness,
+        analyzer.peakDb(),
+        analyzer.windowSeconds(),
+        analyzer.rmsEnvelope().toArray(),
+        analyzer.peakEnvelope().toArray(),
+        silences);
+  }
+
+  /**
+   * ffmpeg 파이프에서 PCM을 읽어 분석기에 공급합니다. 응답 DTO를 만들지 않으므로 무음 구간만 필요한 경우에 사용합니다.
+   *
+   * @param inputPath 입력 파일 경로
+   * @param windowSeconds 윈도우 길이 (초)
+   * @return 스트림 끝까지 처리한 분석기
+   * @throws IOException ffmpeg 실행 실패 또는 오디오 트랙이 없는 경우 발생
+   */
+  public PcmAnalyzer analyzePcm(String inputPath, double windowSeconds) throws IOException {
+    return metrics.time(
+        FfmpegMetrics.OP_AUDIO_ANALYSIS, () -> doAnalyzePcm(inputPath, windowSeconds));
+  }
+
+  private PcmAnalyzer doAnalyzePcm(String inputPath, double windowSeconds) throws IOException {
+    long startTime = System.currentTimeMillis();
+    PcmAnalyzer analyzer =
+        new PcmAnalyzer(CHANNELS, windowSeconds, SILENCE_THRESHOLD_DB, MIN_SILENCE_SECONDS);
+
+    try (FfmpegThreadAllocator.Allocation allocation = threadAllocator.acquire()) {
+      ProcessBuilder pb =
+          new ProcessBuilder(
+              ffmpeg.getPath(),
+              "-v",
+              "error",
+              "-nostdin",
+              "-threads",
+              Integer.toString(allocation.threads()), // 디코더 스레드
+              "-i",
+              inputPath,
+              "-map",
+              "0:a:0",
+              "-ac",
+              Integer.toString(CHANNELS),
+              "-ar",
+              Integer.toString(PcmAnalyzer.SAMPLE_RATE),
+              "-f",
+              "s16le",
+              "pipe:1");
+      // 표준 출력은 PCM 전용이므로 오류 로그를 섞지 않음
+      pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+      Process process = metrics.start(pb);
+
+      byte[] buffer = new byte[BUFFER_SIZE];
+      try (InputStream in = process.getInputStream()) {
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+          analyzer.accept(buffer, 0, read);
+        }
+      }
+      int exitCode = process.waitFor();
+      if (exitCode != 0) {
+        throw new IOException("오디오 분석 실패 (exit=" + exitCode + "): " + inputPath);
+      }
+      analyzer.finish();
+
+      long inputBytes = Files.size(Paths.get(inputPath));
+      metrics.bytesRead(FfmpegMetrics.OP_AUDIO_ANALYSIS, inputBytes);
+      allocation.complete(inputBytes);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("오디오 분석 중 인터럽트 발생", e);
+    }
+
+    log.debug(
+        "오디오 분석 완료: {} (길이: {}s, 무음 구간: {}, 소요시간: {}ms)",
+        inputPath,
+        String.format("%.1f", analyzer.duration()),
+        analyzer.silenceStarts().size(),
+        System.currentTimeMillis() - startTime);
+    return analyzer;
+  }
+}
@@ -0,0 +1,84 @@
+package com.gdpark.ffmpeg.service;
+
+import net.bramp.ffmpeg.FFprobe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * 설치된 ffmpeg/ffprobe 버전에 따라 달라지는 옵션 지원 여부를 확인하는 컴포넌트입니다.
+ *
+ * <p>lavfi `movie` 소스의 `dec_threads` 옵션은 FFmpeg 5.1부터 지원되며, 이전 버전에서는 필터 그래프 파싱이 실패합니다. 처음
+ * 사용할 때 `ffprobe -h filter=movie` 출력을 한 번만 확인해 결과를 캐시하고, 지원하지 않으면 옵션을 빼고 그래프를 만듭니다.
+ */
+@Component
+public class FfmpegCapabilities {
+
+  private static final Logger log = LoggerFactory.getLogger(FfmpegCapabilities.class);
+
+  private final Supplier<String> movieFilterHelp;
+  private volatile Boolean movieDecThreads;
+
+  @Autowired
+  public FfmpegCapabilities(@Lazy FFprobe ffprobe) {
+    this(() -> readFilterHelp(ffprobe.getPath(), "movie"));
+  }
+
+  FfmpegCapabilities(Supplier<String> movieFilterHelp) {
+    this.movieFilterHelp = movieFilterHelp;
+  }
+
+  /**
+   * lavfi `movie` 소스에 붙일 디코더 스레드 옵션을 반환합니다.
+   *
+   * @param threads 디코더 스레드 수
+   * @return `:dec_threads=N`, 지원하지 않는 버전이면 빈 문자열
+   */
+  public String movieDecoderThreads(int threads) {
+    return supportsMovieDecThreads() ? ":dec_threads=" + threads : "";
+  }
+
+  /** `movie` 소스의 `dec_threads` 옵션 지원 여부 (최초 호출 시 한 번 확인) */
+  public boolean supportsMovieDecThreads() {
+    Boolean supported = movieDecThreads;
+    if (supported == null) {
+      synchronized (this) {
+        supported = movieDecThreads;
+        if (supported == null) {
+          supported = movieFilterHelp.get().contains("dec_threads");
+          if (!supported) {
+            log.warn(
+                "ffprobe movie 필터가 dec_threads를 지원하지 않습니다 (FFmpeg 5.1 미만). "
+                    + "디코더 스레드 수를 지정하지 않습니다.");
+          }
+          movieDecThreads = supported;
+        }
+      }
+    }
+    return supported;
+  }
+
+  private static String readFilterHelp(String ffprobePath, String filter) {
+    try {
+      Process process =
+          new ProcessBuilder(ffprobePath, "-hide_banner", "-h", "filter=" + filter)
+              .redirectErrorStream(true)
+              .start();
+      String help = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+      process.waitFor();
+      return help;
+    } catch (IOException e) {
+      log.warn("ffprobe 필터 도움말 확인 실패: {}", e.getMessage());
+      return "";
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "";
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.gdpark.ffmpeg.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 동시에 실행되는 ffmpeg/ffprobe 프로세스들에 CPU 코어를 나눠 주는 스레드 할당기입니다.
+ *
+ * <p>ffmpeg는 `-threads`를 지정하지 않으면 프로세스마다 코어 수만큼 디코더 스레드를 만들기 때문에, 동시 작업이 많으면 코어보다
+ * 훨씬 많은 스레드가 경쟁하며 컨텍스트 스위칭 비용이 커집니다. 이 할당기는 작업마다 다음 값을 `-threads`(또는 lavfi
+ * `dec_threads`)로 넘기도록 계산합니다.
+ *
+ * <pre>threads = clamp(round(factor * (cores - 외부 부하) / 실행 중인 작업 수), 1, cores)</pre>
+ *
+ * <ul>
+ *   <li>외부 부하: 시스템 load average에서 이 서비스가 할당한 스레드 수를 뺀 값 (다른 프로세스가 쓰는 코어)
+ *   <li>factor: 작업 스레드 과할당 비율. 완료된 작업의 처리량(입력 바이트/초)을 일정 구간마다 측정해, 직전 구간보다 처리량이
+ *       떨어지면 조정 방향을 바꾸는 방식(hill climbing)으로 {@value #MIN_FACTOR} ~ {@value #MAX_FACTOR} 범위에서 조정합니다.
+ * </ul>
+ */
+@Component
+public class FfmpegThreadAllocator {
+
+  private static final Logger log = LoggerFactory.getLogger(FfmpegThreadAllocator.class);
+
+  static final double MIN_FACTOR = 0.5;
+  static final double MAX_FACTOR = 2.0;
+  private static final double FACTOR_STEP = 0.25;
+
+  /** 처리량 측정 구간의 최소 완료 작업 수 / 최소 시간 */
+  private static final int WINDOW_JOBS = 8;
+  private static final long WINDOW_NANOS = 5_000_000_000L;
+
+  /** 처리량 변화를 노이즈로 보고 무시하는 비율 */
+  private static final double TOLERANCE = 0.05;
+
+  private final int cores;
+  private final DoubleSupplier loadAverage;
+  private final LongSupplier nanoTime;
+
+  private int activeJobs;
+  private int allocatedThreads;
+  private double factor = 1.0;
+  private double direction = FACTOR_STEP;
+
+  private long windowStart;
+  private int windowJobs;
+  private long windowBytes;
+  private double previousThroughput = Double.NaN;
+
+  public FfmpegThreadAllocator() {
+    this(
+        Runtime.getRuntime().availableProcessors(),
+        () -> ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage(),
+        System::nanoTime);
+  }
+
+  FfmpegThreadAllocator(int cores, DoubleSupplier loadAverage, LongSupplier nanoTime) {
+    this.cores = cores;
+    this.loadAverage = loadAverage;
+    this.nanoTime = nanoTime;
+    this.windowStart = nanoTime.getAsLong();
+  }
+
+  /**
+   * 디코딩/인코딩이 많은 작업(장면 감지, 특징 추출, 오디오 추출)을 시작하며 스레드 수를 할당받습니다.
+   *
+   * <p>반환된 할당은 작업이 끝나면 반드시 닫아야 하며, 처리한 입력 크기를 {@link Allocation#complete(long)}로 알려주면 처리량
+   * 측정에 반영됩니다.
+   *
+   * @return 스레드 할당
+   */
+  public synchronized Allocation acquire() {
+    activeJobs++;
+    double external = Math.max(0, systemLoad() - allocatedThreads);
+    double available = Math.max(1, cores - external);
+    int threads = (int) Math.round(factor * available / activeJobs);
+    threads = Math.max(1, Math.min(cores, threads));
+    allocatedThreads += threads;
+    log.debug(
+        "ffmpeg 스레드 할당: Threads={}, ActiveJobs={}, ExternalLoad={}, Factor={}",
+        threads,
+        activeJobs,
+        String.format("%.1f", external),
+        factor);
+    return new Allocation(threads);
+  }
+
+  /** 현재 과할당 비율을 반환합니다. */
+  public synchronized double factor() {
+    return factor;
+  }
+
+  private double systemLoad() {
+    double load = loadAverage.getAsDouble();
+    return load < 0 ? 0 : load; // 지원하지 않는 OS는 -1
+  }
+
+  private synchronized void release(int threads, long bytes) {
+    activeJobs--;
+    allocatedThreads -= threads;
+    if (bytes <= 0) {
+      return;
+    }
+
+    windowJobs++;
+    windowBytes += bytes;
+    long now = nanoTime.getAsLong();
+    long elapsed = now - windowStart;
+    if (windowJobs < WINDOW_JOBS || elapsed < WINDOW_NANOS) {
+      return;
+    }
+
+    double throughput = windowBytes / (elapsed / 1e9);
+    if (!Double.isNaN(previousThroughput) && throughput < previousThroughput * (1 - TOLERANCE)) {
+      direction = -direction; // 직전 조정이 처리량을 떨어뜨림 -> 반대 방향
+    }
+    factor = Math.max(MIN_FACTOR, Math.min(MAX_FACTOR, factor + direction));
+    log.debug(
+        "ffmpeg 스레드 과할당 비율 조정: Throughput={}MB/s, Factor={}",
+        String.format("%.1f", throughput / 1e6),
+        factor);
+
+    previousThroughput = throughput;
+    windowStart = now;
+    windowJobs = 0;
+    windowBytes = 0;
+  }
+
+  /** 작업 하나에 할당된 스레드 수 */
+  public final class Allocation implements AutoCloseable {
+
+    private final int threads;
+    private long bytes;
+    private boolean closed;
+
+    private Allocation(int threads) {
+      this.threads = threads;
+    }
+
+    /** ffmpeg `-threads` 값 */
+    public int threads() {
+      return threads;
+    }
+
+    /** 작업이 성공적으로 처리한 입력 크기를 기록합니다. (처리량 측정용) */
+    public void complete(long processedBytes) {
+      this.bytes = processedBytes;
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        release(threads, bytes);
+      }
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.gdpark.ffmpeg.service;
 
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,13 +26,16 @@ public class FileStorageService {
 
   private static final Logger log = LoggerFactory.getLogger(FileStorageService.class);
   private final Path fileStorageLocation;
+  private final FfmpegMetrics metrics;
 
   /**
    * 파일 저장 서비스를 초기화합니다.
    *
    * @param workDir 파일을 저장할 기본 작업 디렉토리 경로
+   * @param metrics 업로드 지표 기록용 컴포넌트
    */
-  public FileStorageService(@Value("${ffmpeg.work-dir}") String workDir) {
+  public FileStorageService(@Value("${ffmpeg.work-dir}") String workDir, FfmpegMetrics metrics) {
+    this.metrics = metrics;
     // 업로드 파일 저장을 위한 디렉토리 (work-dir 하위 uploads)
     this.fileStorageLocation = Paths.get(workDir, "uploads").toAbsolutePath().normalize();
 
@@ -49,6 +53,10 @@ public class FileStorageService {
    * @return 저장된 파일의 절대 경로 (String)
    */
   public String storeFile(MultipartFile file) {
+    return metrics.time(FfmpegMetrics.OP_UPLOAD, () -> doStoreFile(file));
+  }
+
+  private String doStoreFile(MultipartFile file) {
     String originalFileName =
         StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
 
@@ -67,7 +75,10 @@ public class FileStorageService {
         Files.createDirectories(this.fileStorageLocation);
       }
 
-      Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+      long bytes =
+          Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+      metrics.bytesRead(FfmpegMetrics.OP_UPLOAD, bytes);
+      metrics.bytesWritten(FfmpegMetrics.OP_UPLOAD, bytes);
 
       return targetLocation.toString();
     } catch (IOException ex) {
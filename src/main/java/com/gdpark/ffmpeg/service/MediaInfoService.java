@@ -1,8 +1,10 @@
 package com.gdpark.ffmpeg.service;
 
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
 import net.bramp.ffmpeg.FFprobe;
 import net.bramp.ffmpeg.probe.FFmpegProbeResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -16,10 +18,12 @@ import java.io.IOException;
 public class MediaInfoService {
 
   private final FFprobe ffprobe;
+  private final FfmpegMetrics metrics;
 
   @Autowired
-  public MediaInfoService(FFprobe ffprobe) {
+  public MediaInfoService(@Lazy FFprobe ffprobe, FfmpegMetrics metrics) {
     this.ffprobe = ffprobe;
+    this.metrics = metrics;
   }
 
   /**
@@ -31,6 +35,6 @@ public class MediaInfoService {
    */
   public FFmpegProbeResult getMetadata(String inputPath) throws IOException {
     // FFprobe를 사용하여 미디어 파일 정보를 조회
-    return ffprobe.probe(inputPath);
+    return metrics.time(FfmpegMetrics.OP_PROBE, () -> ffprobe.probe(inputPath));
   }
 }
@@ -1,5 +1,6 @@
 package com.gdpark.ffmpeg.service;
 
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
 import net.bramp.ffmpeg.FFmpeg;
 import net.bramp.ffmpeg.FFmpegExecutor;
 import net.bramp.ffmpeg.FFprobe;
@@ -8,6 +9,7 @@ import net.bramp.ffmpeg.probe.FFmpegProbeResult;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -25,15 +27,24 @@ public class MediaProcessingService {
 
   private final FFmpeg ffmpeg;
   private final FFprobe ffprobe;
+  private final FfmpegMetrics metrics;
+  private final FfmpegThreadAllocator threadAllocator;
 
   @Value("${ffmpeg.work-dir}")
   private final String workDir;
 
   @Autowired
-  public MediaProcessingService(FFmpeg ffmpeg, FFprobe ffprobe, String workDir) {
+  public MediaProcessingService(
+      @Lazy FFmpeg ffmpeg,
+      @Lazy FFprobe ffprobe,
+      String workDir,
+      FfmpegMetrics metrics,
+      FfmpegThreadAllocator threadAllocator) {
     this.ffmpeg = ffmpeg;
     this.ffprobe = ffprobe;
     this.workDir = workDir;
+    this.metrics = metrics;
+    this.threadAllocator = threadAllocator;
   }
 
   /**
@@ -43,32 +54,43 @@ public class MediaProcessingService {
    * @return 추출된 오디오 파일 경로
    */
   public String extractAudio(String inputPath) throws IOException {
+    return metrics.time(FfmpegMetrics.OP_AUDIO, () -> doExtractAudio(inputPath));
+  }
+
+  private String doExtractAudio(String inputPath) throws IOException {
     String fileName = "audio_" + System.currentTimeMillis() + ".wav";
     Path outputPath = Paths.get(workDir, fileName);
 
     // 작업 디렉토리 생성 확인
     Files.createDirectories(Paths.get(workDir));
 
-    FFmpegProbeResult probeResult = ffprobe.probe(inputPath);
+    FFmpegProbeResult probeResult =
+        metrics.time(FfmpegMetrics.OP_PROBE, () -> ffprobe.probe(inputPath));
 
-    FFmpegBuilder builder =
-        new FFmpegBuilder()
-            .setInput(probeResult)
-            .overrideOutputFiles(true)
-            .addOutput(outputPath.toString())
-            .disableVideo()
-            .setAudioCodec("pcm_s16le") // wav 표준 코덱
-            .setAudioSampleRate(44100)
-            .setAudioChannels(2)
-            .done();
+    try (FfmpegThreadAllocator.Allocation allocation = threadAllocator.acquire()) {
+      FFmpegBuilder builder =
+          new FFmpegBuilder()
+              .setInput(probeResult)
+              .overrideOutputFiles(true)
+              .addExtraArgs("-threads", Integer.toString(allocation.threads())) // 디코더 스레드
+              .addOutput(outputPath.toString())
+              .disableVideo()
+              .setAudioCodec("pcm_s16le") // wav 표준 코덱
+              .setAudioSampleRate(44100)
+              .setAudioChannels(2)
+              .done();
 
-    run(builder);
+      run(builder, FfmpegMetrics.OP_AUDIO);
+      allocation.complete(Files.size(Paths.get(inputPath)));
+    }
 
+    metrics.bytesRead(FfmpegMetrics.OP_AUDIO, Files.size(Paths.get(inputPath)));
+    metrics.bytesWritten(FfmpegMetrics.OP_AUDIO, Files.size(outputPath));
     return outputPath.toString();
   }
 
-  private void run(FFmpegBuilder builder) {
+  private void run(FFmpegBuilder builder, String operation) {
     FFmpegExecutor executor = new FFmpegExecutor(ffmpeg, ffprobe);
-    executor.createJob(builder).run();
+    executor.createJob(builder, metrics.progressListener(operation)).run();
   }
 }
@@ -1,7 +1,25 @@
 package com.gdpark.ffmpeg.service;
 
+import com.gdpark.ffmpeg.audio.PcmAnalyzer;
+import com.gdpark.ffmpeg.config.JobQueueProperties;
 import com.gdpark.ffmpeg.dto.SceneDetectionResponse;
 import com.gdpark.ffmpeg.dto.SceneResult;
+import com.gdpark.ffmpeg.frame.FrameEngine;
+import com.gdpark.ffmpeg.frame.FrameScores;
+import com.gdpark.ffmpeg.frame.HammingIndex;
+import com.gdpark.ffmpeg.frame.HistogramDifferenceAnalyzer;
+import com.gdpark.ffmpeg.frame.PerceptualHasher;
+import com.gdpark.ffmpeg.frame.SadAnalyzer;
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import com.gdpark.ffmpeg.ml.FrameFeatureExtractor;
+import com.gdpark.ffmpeg.ml.FrameFeatures;
+import com.gdpark.ffmpeg.ml.SceneBoundaryClassifier;
+import com.gdpark.ffmpeg.queue.JobQueue;
+import com.gdpark.ffmpeg.queue.JobStatus;
+import com.gdpark.ffmpeg.queue.Lease;
+import com.gdpark.ffmpeg.queue.WorkItem;
+import com.gdpark.ffmpeg.util.DoubleArray;
+import com.gdpark.ffmpeg.util.FfprobeOutputParser;
 import net.bramp.ffmpeg.FFmpeg;
 import net.bramp.ffmpeg.FFmpegExecutor;
 import net.bramp.ffmpeg.FFprobe;
@@ -10,35 +28,101 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * 고급 장면 감지(Scene Detection) 및 처리를 담당하는 서비스입니다.
  *
- * <p>영상의 장면 전환을 감지하여 씬별 비디오 클립과 썸네일을 생성합니다.
+ * <p>영상의 장면 전환을 감지하여 씬별 비디오 클립과 썸네일을 생성합니다. 장면 구간별 클립/썸네일 생성은 {@link JobQueue}에
+ * 작업으로 등록되어, 큐를 공유하는 다른 노드의 작업자도 나눠 처리합니다.
  */
 @Service
 public class SceneDetectionService {
 
   private static final Logger log = LoggerFactory.getLogger(SceneDetectionService.class);
 
+  /** 이보다 짧은 장면 구간(초)은 노이즈로 보고 스킵 */
+  static final double MIN_SCENE_DURATION = 0.5;
+
+  /** 다른 작업자가 처리 중인 클립 작업의 완료를 확인하는 간격 (ms) */
+  private static final long CLIP_POLL_INTERVAL_MS = 100;
+
+  /** 장면 경계를 무음 구간으로 옮길 수 있는 최대 거리 (초) */
+  static final double SILENCE_SNAP_DISTANCE = 1.0;
+
+  /** `scene.detector` 값: ffprobe `select=gt(scene)` 필터 (기본) */
+  static final String DETECTOR_SELECT = "select";
+
+  /** `scene.detector` 값: JVM 프레임 엔진 ({@link FrameEngine}) */
+  static final String DETECTOR_FRAME_ENGINE = "frame-engine";
+
+  /** 프레임 엔진 판정 시 SAD 점수와 함께 요구하는 히스토그램 차이 (임계값 대비 비율, 움직임 오탐 억제) */
+  static final double HISTOGRAM_GATE_RATIO = 0.5;
+
+  /** 대표 프레임 dHash가 이 해밍 거리(64비트 중) 이내이면 근사 중복 장면으로 판단 */
+  static final int NEAR_DUPLICATE_DISTANCE = 4;
+
   private final FFmpeg ffmpeg;
   private final FFprobe ffprobe;
   private final String workDir;
+  private final FrameFeatureExtractor frameFeatureExtractor;
+  private final SceneBoundaryClassifier sceneBoundaryClassifier;
+  private final FfmpegMetrics metrics;
+  private final JobQueue jobQueue;
+  private final FfmpegThreadAllocator threadAllocator;
+  private final AudioAnalysisService audioAnalysisService;
+  private final FrameEngine frameEngine;
+  private final String sceneDetector;
+  private final PerceptualHasher perceptualHasher;
+  private final FfmpegCapabilities capabilities;
+  private final Duration clipTimeout;
 
   @Autowired
   public SceneDetectionService(
-      FFmpeg ffmpeg, FFprobe ffprobe, @Value("${ffmpeg.work-dir}") String workDir) {
+      @Lazy FFmpeg ffmpeg,
+      @Lazy FFprobe ffprobe,
+      @Value("${ffmpeg.work-dir}") String workDir,
+      FrameFeatureExtractor frameFeatureExtractor,
+      SceneBoundaryClassifier sceneBoundaryClassifier,
+      FfmpegMetrics metrics,
+      JobQueue jobQueue,
+      FfmpegThreadAllocator threadAllocator,
+      AudioAnalysisService audioAnalysisService,
+      FrameEngine frameEngine,
+      @Value("${scene.detector:" + DETECTOR_SELECT + "}") String sceneDetector,
+      PerceptualHasher perceptualHasher,
+      FfmpegCapabilities capabilities,
+      JobQueueProperties jobQueueProperties) {
     this.ffmpeg = ffmpeg;
     this.ffprobe = ffprobe;
     this.workDir = workDir;
+    this.frameFeatureExtractor = frameFeatureExtractor;
+    this.sceneBoundaryClassifier = sceneBoundaryClassifier;
+    this.metrics = metrics;
+    this.jobQueue = jobQueue;
+    this.threadAllocator = threadAllocator;
+    this.audioAnalysisService = audioAnalysisService;
+    this.frameEngine = frameEngine;
+    this.sceneDetector = sceneDetector;
+    this.perceptualHasher = perceptualHasher;
+    this.capabilities = capabilities;
+    this.clipTimeout = jobQueueProperties.clipTimeout();
   }
 
   /**
@@ -50,6 +134,29 @@ public class SceneDetectionService {
    */
   public SceneDetectionResponse detectScenes(String inputPath, double threshold)
       throws IOException {
+    return detectScenes(inputPath, threshold, false, false);
+  }
+
+  /**
+   * 장면(Scene)을 감지하고 각 장면별 비디오 클립과 대표 썸네일을 생성합니다.
+   *
+   * @param inputPath 입력 비디오 파일 경로
+   * @param threshold 장면 감지 임계값 (0.0 ~ 1.0)
+   * @param snapToSilence 장면 경계를 근처({@value #SILENCE_SNAP_DISTANCE}초 이내)의 무음 구간으로 보정할지 여부
+   * @param deduplicate 대표 프레임이 거의 같은 장면은 클립/썸네일을 만들지 않고 앞선 대표 장면을 참조할지 여부
+   * @return 감지된 장면 정보 응답 객체 (총 개수 및 리스트 포함)
+   */
+  public SceneDetectionResponse detectScenes(
+      String inputPath, double threshold, boolean snapToSilence, boolean deduplicate)
+      throws IOException {
+    return metrics.time(
+        FfmpegMetrics.OP_SCENE_DETECT,
+        () -> doDetectScenes(inputPath, threshold, snapToSilence, deduplicate));
+  }
+
+  private SceneDetectionResponse doDetectScenes(
+      String inputPath, double threshold, boolean snapToSilence, boolean deduplicate)
+      throws IOException {
     long startTime = System.currentTimeMillis();
     log.info("장면 감지 분석 시작: Input={}, Threshold={}", inputPath, threshold);
 
@@ -58,20 +165,57 @@ public class SceneDetectionService {
     Files.createDirectories(outputBaseDir);
 
     // 장면 전환 타임스탬프 감지 (핵심 로직 개선)
-    List<Double> sceneTimes = detectSceneChanges(inputPath, threshold);
+    DoubleArray sceneTimes = detectSceneChanges(inputPath, threshold);
     log.info("감지된 타임스탬프 목록: {}", sceneTimes);
 
+    // 장면 경계를 근처 무음 구간으로 보정 (대사/음악 중간에서 잘리지 않도록)
+    if (snapToSilence) {
+      sceneTimes = snapToSilences(inputPath, sceneTimes);
+    }
+
     // 타임스탬프를 기반으로 장면 구간(Start~End) 정의
     List<SceneSegment> segments = createSegments(sceneTimes, inputPath);
     log.info("생성된 구간(Segment) 개수: {}", segments.size());
 
     // 각 구간별 클립 및 썸네일 생성
-    List<SceneResult> results = new ArrayList<>();
-    int sceneIndex = 0;
+    List<SceneResult> results =
+        processSegments(inputPath, segments, outputBaseDir, 1, deduplicate);
+
+    long endTime = System.currentTimeMillis();
+    long totalTimeMs = endTime - startTime;
+    log.info(
+        "장면 감지 및 처리 완료: Total Scenes={} (총 소요시간: {}ms, 약 {}초)",
+        results.size(),
+        totalTimeMs,
+        String.format("%.1f", totalTimeMs / 1000.0));
 
+    return new SceneDetectionResponse(results.size(), results);
+  }
+
+  /**
+   * 구간별 클립/썸네일 생성 작업을 큐에 등록하고, 모두 끝나면 성공한 장면 결과를 반환합니다.
+   *
+   * <p>중복 제거를 사용하면 대표 프레임(구간 중간 지점)의 dHash가 앞선 장면과 거의 같은 구간은 작업을 등록하지 않고, 결과에서
+   * 대표 장면의 클립/썸네일과 위치({@link SceneResult#duplicateOf()})를 참조합니다.
+   *
+   * @param inputPath 입력 비디오 파일 경로
+   * @param segments 장면 구간 목록 (0.5초 미만 구간은 스킵)
+   * @param outputBaseDir 클립/썸네일 저장 디렉토리
+   * @param firstIndex 첫 장면 번호 (파일 이름 `scene_001.mp4` 등에 사용)
+   * @param deduplicate 근사 중복 장면 제거 여부
+   * @return 처리에 성공한 장면 결과 리스트
+   */
+  List<SceneResult> processSegments(
+      String inputPath,
+      List<SceneSegment> segments,
+      Path outputBaseDir,
+      int firstIndex,
+      boolean deduplicate)
+      throws IOException {
+    List<SceneSegment> scenes = new ArrayList<>();
     for (SceneSegment segment : segments) {
       // 너무 짧은 구간(0.5초 미만)은 스킵 (노이즈 방지)
-      if (segment.duration() < 0.5) {
+      if (segment.duration() < MIN_SCENE_DURATION) {
         log.debug(
             "구간 스킵 (너무 짧음): {}s ({} ~ {})",
             String.format("%.2f", segment.duration()),
@@ -79,6 +223,23 @@ public class SceneDetectionService {
             segment.end);
         continue;
       }
+      scenes.add(segment);
+    }
+
+    // 장면별 대표 장면 위치 (대표 자신은 -1)
+    int[] representativeOf =
+        deduplicate ? findNearDuplicates(inputPath, scenes) : noDuplicates(scenes.size());
+
+    // 대표 장면만 클립 및 썸네일 생성 작업 등록
+    SceneJob[] jobs = new SceneJob[scenes.size()];
+    List<SceneJob> submitted = new ArrayList<>();
+    int sceneIndex = firstIndex - 1;
+
+    for (int i = 0; i < scenes.size(); i++) {
+      if (representativeOf[i] >= 0) {
+        continue;
+      }
+      SceneSegment segment = scenes.get(i);
 
       sceneIndex++;
       String clipName = String.format("scene_%03d.mp4", sceneIndex);
@@ -86,34 +247,94 @@ public class SceneDetectionService {
       Path clipPath = outputBaseDir.resolve(clipName);
       Path thumbPath = outputBaseDir.resolve(thumbName);
 
-      try {
-        // 비디오 클립 생성
-        createClip(inputPath, segment.start(), segment.duration(), clipPath.toString());
+      String jobId =
+          jobQueue.submit(
+              WorkItem.clip(
+                  inputPath,
+                  segment.start(),
+                  segment.end(),
+                  clipPath.toAbsolutePath().toString(),
+                  thumbPath.toAbsolutePath().toString()));
+      jobs[i] = new SceneJob(sceneIndex, segment, jobId);
+      submitted.add(jobs[i]);
+    }
+
+    // 등록한 작업이 모두 끝날 때까지 대기하며, 그동안 이 스레드도 클립 작업을 처리
+    Map<String, JobStatus> finished = awaitClipJobs(submitted);
 
-        // 썸네일 생성 (구간의 중간 지점)
-        double midPoint = segment.start() + (segment.duration() / 2.0);
-        extractThumbnail(inputPath, midPoint, thumbPath.toString());
+    List<SceneResult> results = new ArrayList<>();
+    int[] resultIndex = new int[scenes.size()];
+    Arrays.fill(resultIndex, -1);
+    for (int i = 0; i < scenes.size(); i++) {
+      int representative = representativeOf[i];
+      if (representative >= 0) {
+        // 대표는 항상 앞에 있으므로 이미 결과가 정해져 있음 (대표가 실패하면 함께 제외)
+        int target = resultIndex[representative];
+        if (target >= 0) {
+          SceneResult original = results.get(target);
+          results.add(
+              new SceneResult(
+                  scenes.get(i).start(),
+                  scenes.get(i).end(),
+                  original.clipPath(),
+                  original.thumbnailPath(),
+                  target));
+        }
+        continue;
+      }
 
+      SceneJob job = jobs[i];
+      Optional<JobStatus> status = Optional.ofNullable(finished.get(job.jobId()));
+      if (status.isPresent() && status.get().state() == JobStatus.State.DONE) {
+        resultIndex[i] = results.size();
         results.add(
             new SceneResult(
-                segment.start(),
-                segment.end(),
-                clipPath.toAbsolutePath().toString(),
-                thumbPath.toAbsolutePath().toString()));
-      } catch (Exception e) {
-        log.error("장면 처리 중 오류 발생 (Index: {}): {}", sceneIndex, e.getMessage());
+                job.segment().start(),
+                job.segment().end(),
+                status.get().result().get("clipPath"),
+                status.get().result().get("thumbnailPath")));
+      } else {
+        log.error(
+            "장면 처리 중 오류 발생 (Index: {}): {}",
+            job.index(),
+            status.map(JobStatus::error).orElse("작업 상태를 찾을 수 없음"));
       }
     }
+    return results;
+  }
 
-    long endTime = System.currentTimeMillis();
-    long totalTimeMs = endTime - startTime;
-    log.info(
-        "장면 감지 및 처리 완료: Total Scenes={} (총 소요시간: {}ms, 약 {}초)",
-        results.size(),
-        totalTimeMs,
-        String.format("%.1f", totalTimeMs / 1000.0));
+  /**
+   * 장면별 대표 프레임(구간 중간 지점, 썸네일과 같은 시점)의 dHash로 근사 중복 장면을 찾습니다.
+   *
+   * @return 장면별 대표 장면 위치 (대표 자신은 -1), 해시 계산에 실패하면 모두 -1
+   */
+  private int[] findNearDuplicates(String inputPath, List<SceneSegment> scenes) {
+    double[] midPoints = new double[scenes.size()];
+    for (int i = 0; i < midPoints.length; i++) {
+      midPoints[i] = scenes.get(i).start() + scenes.get(i).duration() / 2.0;
+    }
 
-    return new SceneDetectionResponse(results.size(), results);
+    if (scenes.size() < 2) {
+      return noDuplicates(scenes.size());
+    }
+    int[] representativeOf;
+    try {
+      long[] hashes = perceptualHasher.hash(inputPath, midPoints);
+      representativeOf = HammingIndex.groupNearDuplicates(hashes, NEAR_DUPLICATE_DISTANCE);
+    } catch (IOException e) {
+      log.warn("장면 해시 계산 실패. 중복 제거 없이 진행합니다.", e);
+      return noDuplicates(scenes.size());
+    }
+
+    long duplicates = Arrays.stream(representativeOf).filter(r -> r >= 0).count();
+    log.info("근사 중복 장면: {}/{} (클립 생성 생략)", duplicates, scenes.size());
+    return representativeOf;
+  }
+
+  private static int[] noDuplicates(int size) {
+    int[] representativeOf = new int[size];
+    Arrays.fill(representativeOf, -1);
+    return representativeOf;
   }
 
   /**
@@ -122,18 +343,33 @@ public class SceneDetectionService {
    * <p>1. `pkt_pts_time` 대신 `pts_time`을 사용하여 lavfi 필터 출력 호환성 개선. 2. 1차 시도 실패(장면 감지 0개) 시, 임계값을
    * 낮춰(Threshold * 0.5) 재시도하는 Adaptive Logic 적용. 3. 재시도 실패 시 10분 단위로 강제 분할하지는 않지만, 로그를 남김.
    *
+   * <p>학습된 장면 경계 모델이 설정되어 있으면 한 번의 디코딩으로 프레임 특징을 추출해 분류기로 판별하며, 이 경우 임계값과 재시도
+   * 로직은 사용하지 않습니다.
+   *
+   * <p>`scene.detector=frame-engine`이면 {@link FrameEngine}으로 프레임 점수를 한 번만 계산하고, 재시도는 재디코딩 없이
+   * 낮춘 임계값으로 다시 판정합니다.
+   *
    * @param inputPath 입력 파일 경로
    * @param threshold 장면 감지 임계값
-   * @return 장면 전환이 감지된 시간(초) 리스트
+   * @return 장면 전환이 감지된 시간(초) 배열
    */
-  private List<Double> detectSceneChanges(String inputPath, double threshold) throws IOException {
-    List<Double> timestamps = runFfprobeForSceneDetection(inputPath, threshold);
+  private DoubleArray detectSceneChanges(String inputPath, double threshold) throws IOException {
+    if (sceneBoundaryClassifier.isAvailable()) {
+      FrameFeatures features = frameFeatureExtractor.extract(inputPath);
+      return sceneBoundaryClassifier.detectBoundaries(features);
+    }
+
+    ThresholdDetector detector =
+        DETECTOR_FRAME_ENGINE.equals(sceneDetector)
+            ? frameEngineDetector(inputPath)
+            : t -> runFfprobeForSceneDetection(inputPath, t);
+    DoubleArray timestamps = detector.detect(threshold);
 
     // Adaptive Logic: 감지된 장면이 없고(시작점 제외), 임계값이 0.1보다 큰 경우 -> 임계값을 절반으로 낮춰 재시도
     if (timestamps.size() <= 1 && threshold > 0.1) {
       double newThreshold = Math.max(0.05, threshold * 0.5);
       log.warn("장면 감지 실패 (Threshold={}). 임계값을 {}로 낮춰 재시도합니다.", threshold, newThreshold);
-      List<Double> retryTimestamps = runFfprobeForSceneDetection(inputPath, newThreshold);
+      DoubleArray retryTimestamps = detector.detect(newThreshold);
 
       if (retryTimestamps.size() > 1) {
         return retryTimestamps;
@@ -148,15 +384,56 @@ public class SceneDetectionService {
     return timestamps;
   }
 
-  private List<Double> runFfprobeForSceneDetection(String inputPath, double threshold) {
-    List<Double> timestamps = new ArrayList<>();
+  private ThresholdDetector frameEngineDetector(String inputPath) {
+    FrameScores scores;
+    try {
+      scores =
+          frameEngine.analyze(
+              inputPath, List.of(new SadAnalyzer(), new HistogramDifferenceAnalyzer()));
+    } catch (IOException e) {
+      // select 감지와 동일하게 시작점만 반환 (단일 장면으로 처리)
+      log.error("장면 감지 중 오류 발생", e);
+      return threshold -> DoubleArray.of(0.0);
+    }
+    return threshold -> cutsFromScores(scores, threshold);
+  }
+
+  /**
+   * 프레임 엔진 점수에서 장면 전환 시점을 고릅니다.
+   *
+   * <p>SAD 점수(ffmpeg `scene` 점수와 같은 척도)가 임계값을 넘고, 밝기 히스토그램 차이도 임계값의
+   * {@value #HISTOGRAM_GATE_RATIO}배 이상인 프레임을 전환으로 봅니다. 히스토그램이 비슷한 빠른 움직임은 전환에서 제외됩니다.
+   *
+   * @param scores {@link SadAnalyzer}, {@link HistogramDifferenceAnalyzer} 점수를 포함한 결과
+   * @param threshold 장면 감지 임계값
+   * @return 장면 전환 시간(초) 배열 (첫 값은 시작점 0.0)
+   */
+  static DoubleArray cutsFromScores(FrameScores scores, double threshold) {
+    DoubleArray timestamps = new DoubleArray();
+    timestamps.add(0.0); // 시작점
+
+    DoubleArray pts = scores.pts();
+    DoubleArray sad = scores.scores(SadAnalyzer.NAME);
+    DoubleArray histogram = scores.scores(HistogramDifferenceAnalyzer.NAME);
+    double histogramGate = threshold * HISTOGRAM_GATE_RATIO;
+    for (int i = 0; i < scores.size(); i++) {
+      if (sad.get(i) > threshold && histogram.get(i) >= histogramGate && pts.get(i) > 0) {
+        timestamps.add(pts.get(i));
+      }
+    }
+    return timestamps;
+  }
+
+  private DoubleArray runFfprobeForSceneDetection(String inputPath, double threshold) {
+    DoubleArray timestamps = new DoubleArray();
     timestamps.add(0.0); // 시작점
 
     // pkt_pts_time -> pts_time으로 변경 (lavfi 출력 호환성)
-    try {
+    // movie 소스의 디코더 스레드 수는 동시 작업 수/시스템 부하에 맞춰 할당 (dec_threads: FFmpeg 5.1+)
+    try (FfmpegThreadAllocator.Allocation allocation = threadAllocator.acquire()) {
       ProcessBuilder pb =
           new ProcessBuilder(
-              "ffprobe",
+              ffprobe.getPath(),
               "-v",
               "error",
               "-show_entries",
@@ -166,32 +443,178 @@ public class SceneDetectionService {
               "-f",
               "lavfi",
               "-i",
-              String.format("movie=%s,select=gt(scene\\,%f)", inputPath, threshold));
+              String.format(
+                  "movie=%s%s,select=gt(scene\\,%f)",
+                  inputPath,
+                  capabilities.movieDecoderThreads(allocation.threads()),
+                  threshold));
 
       pb.redirectErrorStream(true);
-      Process process = pb.start();
-
-      try (var reader =
-          new java.io.BufferedReader(new java.io.InputStreamReader(process.getInputStream()))) {
-        String line;
-        while ((line = reader.readLine()) != null) {
-          if (line.isEmpty()) continue;
-          try {
-            double t = Double.parseDouble(line.trim());
-            timestamps.add(t);
-          } catch (NumberFormatException e) {
-            // 로그가 섞일 수 있으므로 무시하거나 디버그 로그
-            log.trace("Non-numeric output line from ffprobe: {}", line);
-          }
-        }
+      Process process = metrics.start(pb);
+
+      try (InputStream in = process.getInputStream()) {
+        readTimestamps(in, timestamps);
       }
       process.waitFor();
+      long inputBytes = Files.size(Paths.get(inputPath));
+      metrics.bytesRead(FfmpegMetrics.OP_SCENE_DETECT, inputBytes);
+      allocation.complete(inputBytes);
     } catch (Exception e) {
       log.error("장면 감지 중 오류 발생", e);
     }
     return timestamps;
   }
 
+  private DoubleArray snapToSilences(String inputPath, DoubleArray sceneTimes) {
+    try {
+      PcmAnalyzer audio =
+          audioAnalysisService.analyzePcm(inputPath, AudioAnalysisService.DEFAULT_WINDOW_SECONDS);
+      DoubleArray snapped =
+          snapToSilences(
+              sceneTimes, audio.silenceStarts(), audio.silenceEnds(), SILENCE_SNAP_DISTANCE);
+      log.info("무음 구간 보정 후 타임스탬프 목록: {}", snapped);
+      return snapped;
+    } catch (IOException e) {
+      // 오디오 트랙이 없는 영상 등은 보정 없이 진행
+      log.warn("무음 구간 분석 실패. 장면 경계를 보정하지 않습니다: {}", e.getMessage());
+      return sceneTimes;
+    }
+  }
+
+  /**
+   * 무음 구간 밖에 있는 장면 경계를 최대 거리 이내의 가장 가까운 무음 구간 경계로 옮깁니다.
+   *
+   * <p>이미 무음 구간 안에 있는 경계와 시작점(0.0)은 그대로 둡니다. 보정 후 겹치는 경계는 {@link #createSegments}에서
+   * 정리됩니다.
+   *
+   * @param cuts 장면 전환 시간(초) 배열
+   * @param silenceStarts 무음 구간 시작 시간 (오름차순)
+   * @param silenceEnds 무음 구간 종료 시간 (silenceStarts와 같은 순서)
+   * @param maxDistance 최대 이동 거리 (초)
+   * @return 보정된 장면 전환 시간 배열
+   */
+  static DoubleArray snapToSilences(
+      DoubleArray cuts, DoubleArray silenceStarts, DoubleArray silenceEnds, double maxDistance) {
+    double[] starts = silenceStarts.toArray();
+    DoubleArray snapped = new DoubleArray(cuts.size());
+    for (int i = 0; i < cuts.size(); i++) {
+      double cut = cuts.get(i);
+      if (cut <= 0 || starts.length == 0) {
+        snapped.add(cut);
+        continue;
+      }
+
+      // cut 이전에 시작한 마지막 무음 구간과 그다음 구간만 후보
+      int pos = Arrays.binarySearch(starts, cut);
+      int before = pos >= 0 ? pos : -pos - 2;
+      double target = cut;
+      double best = maxDistance;
+      if (before >= 0) {
+        double end = silenceEnds.get(before);
+        if (cut <= end) {
+          snapped.add(cut); // 무음 구간 안
+          continue;
+        }
+        if (cut - end <= best) {
+          best = cut - end;
+          target = end;
+        }
+      }
+      if (before + 1 < starts.length && starts[before + 1] - cut < best) {
+        target = starts[before + 1];
+      }
+      snapped.add(target);
+    }
+    return snapped;
+  }
+
+  /**
+   * ffprobe 출력(한 줄에 하나의 `pts_time`)을 바이트 단위로 읽어 타임스탬프 배열에 추가합니다. 숫자가 아닌 줄(섞여 나온 로그 등)은
+   * 무시합니다.
+   *
+   * @param in ffprobe 표준 출력
+   * @param timestamps 결과를 추가할 배열
+   */
+  static void readTimestamps(InputStream in, DoubleArray timestamps) throws IOException {
+    new FfprobeOutputParser().readDoubles(in, timestamps);
+  }
+
+  /**
+   * 등록한 클립 작업이 모두 완료/실패할 때까지 기다립니다.
+   *
+   * <p>대기하는 동안 큐에서 클립 작업을 직접 점유해 처리하므로, 작업자 스레드가 모두 바쁘거나 다른 노드가 없어도 진행이
+   * 보장됩니다. 큐는 완료된 작업 상태를 일정 건수만 보관하므로, 작업이 끝나는 대로 상태를 기록해 둡니다. `jobs.clip-timeout`이
+   * 지나도 끝나지 않은 작업은 실패로 기록합니다.
+   *
+   * @return 작업 ID별 완료/실패 상태 (큐에서 상태를 찾을 수 없는 작업은 제외)
+   */
+  private Map<String, JobStatus> awaitClipJobs(List<SceneJob> jobs) throws IOException {
+    String owner = jobQueue.nodeId() + "/" + Thread.currentThread().getName();
+    long deadline = System.nanoTime() + clipTimeout.toNanos();
+    Map<String, JobStatus> finished = new HashMap<>();
+    List<SceneJob> remaining = new ArrayList<>(jobs);
+    while (true) {
+      Iterator<SceneJob> it = remaining.iterator();
+      while (it.hasNext()) {
+        String jobId = it.next().jobId();
+        Optional<JobStatus> status = jobQueue.status(jobId);
+        if (status.isEmpty() || status.get().state().isTerminal()) {
+          status.ifPresent(s -> finished.put(jobId, s));
+          it.remove();
+        }
+      }
+      if (remaining.isEmpty()) {
+        return finished;
+      }
+      if (System.nanoTime() - deadline > 0) {
+        log.error("클립 작업 대기 시간 초과: {}/{}건 미완료 ({})", remaining.size(), jobs.size(), clipTimeout);
+        for (SceneJob job : remaining) {
+          finished.put(
+              job.jobId(),
+              new JobStatus(
+                  job.jobId(), JobStatus.State.FAILED, null, "작업 대기 시간 초과 (" + clipTimeout + ")"));
+        }
+        return finished;
+      }
+
+      Optional<Lease> lease = jobQueue.claim(owner, EnumSet.of(WorkItem.Type.CLIP));
+      if (lease.isPresent()) {
+        jobQueue.execute(lease.get(), l -> processClip(l.item()));
+      } else {
+        try {
+          Thread.sleep(CLIP_POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("클립 작업 대기 중 인터럽트 발생", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * 큐에서 가져온 장면 구간 작업의 비디오 클립과 대표 썸네일(구간의 중간 지점)을 생성합니다.
+   *
+   * @param item {@link WorkItem.Type#CLIP} 작업
+   * @return 생성된 클립/썸네일 경로 (`clipPath`, `thumbnailPath`)
+   * @throws IOException FFmpeg 실행 실패 시 발생
+   */
+  public Map<String, String> processClip(WorkItem item) throws IOException {
+    String inputPath = item.param("path");
+    double start = item.doubleParam("start");
+    double duration = item.doubleParam("end") - start;
+    String clipPath = item.param("clipPath");
+    String thumbPath = item.param("thumbnailPath");
+
+    // 비디오 클립 생성
+    createClip(inputPath, start, duration, clipPath);
+
+    // 썸네일 생성 (구간의 중간 지점)
+    double midPoint = start + (duration / 2.0);
+    extractThumbnail(inputPath, midPoint, thumbPath);
+
+    return Map.of("clipPath", clipPath, "thumbnailPath", thumbPath);
+  }
+
   /**
    * 특정 구간의 영상을 잘라내어 저장합니다. (스트림 복사 방식 적용)
    *
@@ -202,12 +625,23 @@ public class SceneDetectionService {
    */
   private void createClip(String inputPath, double start, double duration, String outputPath)
       throws IOException {
+    metrics.time(
+        FfmpegMetrics.OP_CLIP,
+        () -> {
+          doCreateClip(inputPath, start, duration, outputPath);
+          return null;
+        });
+  }
+
+  private void doCreateClip(String inputPath, double start, double duration, String outputPath)
+      throws IOException {
     long startTime = System.currentTimeMillis();
 
     FFmpegBuilder builder =
         new FFmpegBuilder()
             .setInput(inputPath)
             .overrideOutputFiles(true)
+            .addExtraArgs("-threads", "1") // 스트림 복사는 디코딩하지 않으므로 스레드 할당 불필요
             .addOutput(outputPath)
             .setStartOffset((long) (start * 1000), java.util.concurrent.TimeUnit.MILLISECONDS)
             .setDuration((long) (duration * 1000), java.util.concurrent.TimeUnit.MILLISECONDS)
@@ -215,7 +649,10 @@ public class SceneDetectionService {
             .setAudioCodec("copy") // 오디오 복사
             .done();
 
-    new FFmpegExecutor(ffmpeg, ffprobe).createJob(builder).run();
+    new FFmpegExecutor(ffmpeg, ffprobe)
+        .createJob(builder, metrics.progressListener(FfmpegMetrics.OP_CLIP))
+        .run();
+    metrics.bytesWritten(FfmpegMetrics.OP_CLIP, Files.size(Paths.get(outputPath)));
 
     long endTime = System.currentTimeMillis();
     log.debug("클립 생성 완료: {} (소요시간: {}ms)", outputPath, (endTime - startTime));
@@ -230,10 +667,22 @@ public class SceneDetectionService {
    */
   private void extractThumbnail(String inputPath, double time, String outputPath)
       throws IOException {
+    metrics.time(
+        FfmpegMetrics.OP_THUMBNAIL,
+        () -> {
+          doExtractThumbnail(inputPath, time, outputPath);
+          return null;
+        });
+  }
+
+  private void doExtractThumbnail(String inputPath, double time, String outputPath)
+      throws IOException {
     FFmpegBuilder builder =
         new FFmpegBuilder()
             .setInput(inputPath)
             .overrideOutputFiles(true)
+            // 한 프레임만 디코딩하므로 프레임 스레딩(프레임 버퍼링 지연) 없이 단일 스레드 사용
+            .addExtraArgs("-threads", "1")
             .addOutput(outputPath)
             .setStartOffset((long) (time * 1000), java.util.concurrent.TimeUnit.MILLISECONDS)
             .setFrames(1)
@@ -241,27 +690,41 @@ public class SceneDetectionService {
             .done();
 
     new FFmpegExecutor(ffmpeg, ffprobe).createJob(builder).run();
+    metrics.bytesWritten(FfmpegMetrics.OP_THUMBNAIL, Files.size(Paths.get(outputPath)));
   }
 
   /**
    * 감지된 타임스탬프 목록을 바탕으로 시작/종료 구간(SceneSegment)을 생성합니다.
    *
-   * @param timestamps 장면 전환 타임스탬프 리스트
+   * @param timestamps 장면 전환 타임스탬프 배열
    * @param inputPath 영상 전체 길이를 확인하기 위한 파일 경로
    * @return 구간 정보 리스트
    */
-  private List<SceneSegment> createSegments(List<Double> timestamps, String inputPath) {
+  private List<SceneSegment> createSegments(DoubleArray timestamps, String inputPath) {
     double totalDuration = 0;
     try {
-      totalDuration = ffprobe.probe(inputPath).getFormat().duration;
+      totalDuration =
+          metrics.time(FfmpegMetrics.OP_PROBE, () -> ffprobe.probe(inputPath)).getFormat().duration;
     } catch (IOException e) {
       log.warn("영상 길이 조회 실패", e);
     }
 
-    List<SceneSegment> segments = new ArrayList<>();
+    return createSegments(timestamps, totalDuration);
+  }
 
-    // 타임스탬프 정렬 및 중복 제거 (안전을 위해)
-    timestamps = timestamps.stream().sorted().distinct().toList();
+  /**
+   * 타임스탬프 목록과 영상 전체 길이로 구간 정보를 생성합니다.
+   *
+   * <p>타임스탬프 배열은 제자리에서 정렬/중복 제거되므로 호출 후 순서가 바뀝니다.
+   *
+   * @param timestamps 장면 전환 타임스탬프 배열
+   * @param totalDuration 영상 전체 길이 (초, 조회 실패 시 0)
+   * @return 구간 정보 리스트
+   */
+  static List<SceneSegment> createSegments(DoubleArray timestamps, double totalDuration) {
+    // 타임스탬프 정렬 및 중복 제거 (안전을 위해, 박싱 없이 제자리에서 수행)
+    timestamps.sortAndDedupe();
+    List<SceneSegment> segments = new ArrayList<>(timestamps.size());
 
     // 1. 타임스탬프가 시작점(0.0) 하나뿐인 경우 -> 전체를 하나의 장면으로 간주하지 않으려면?
     // 사용자의 의도: 장면 분할이 안 되면 "실패"에 가까움.
@@ -289,8 +752,17 @@ public class SceneDetectionService {
     return segments;
   }
 
+  /** 임계값으로 장면 전환 시간 배열을 구하는 감지 방식 */
+  @FunctionalInterface
+  private interface ThresholdDetector {
+    DoubleArray detect(double threshold);
+  }
+
+  /** 큐에 등록한 장면 구간 작업 */
+  private record SceneJob(int index, SceneSegment segment, String jobId) {}
+
   /** 내부 사용용 구간 정보 레코드 */
-  private record SceneSegment(double start, double end) {
+  record SceneSegment(double start, double end) {
     public double duration() {
       return end - start;
     }
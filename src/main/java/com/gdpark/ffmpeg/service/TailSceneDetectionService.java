@@ -0,0 +1,335 @@
+package com.gdpark.ffmpeg.service;
+
+import com.gdpark.ffmpeg.dto.SceneResult;
+import com.gdpark.ffmpeg.dto.TailSceneResponse;
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import com.gdpark.ffmpeg.util.DoubleArray;
+import com.gdpark.ffmpeg.util.FfprobeOutputParser;
+import net.bramp.ffmpeg.FFprobe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 녹화 중인(계속 커지는) 영상의 장면을 증분으로 감지하는 서비스입니다.
+ *
+ * <p>입력별로 체크포인트(판정이 끝난 시점, 열려 있는 장면의 시작점, 장면 번호)를 보관하고, 매 요청마다 체크포인트 직전부터
+ * 새로 추가된 구간만 디코딩하여 새로 확정된 장면만 반환합니다. 따라서 요청당 비용은 전체 길이가 아니라 새로 추가된 길이에
+ * 비례합니다.
+ *
+ * <ul>
+ *   <li>scene score는 직전 프레임과의 차이이므로, 체크포인트보다 {@value #OVERLAP_SEC}초 앞에서부터 디코딩하고 체크포인트
+ *       이전의 전환은 무시합니다.
+ *   <li>파일 끝의 프레임은 아직 기록 중일 수 있으므로 마지막 {@value #SETTLE_SEC}초는 판정을 다음 요청으로 미룹니다.
+ *   <li>`complete=true` 요청에서 마지막 장면을 닫고 체크포인트를 삭제합니다.
+ * </ul>
+ *
+ * <p>기록 중에도 읽을 수 있는 컨테이너(MPEG-TS, Matroska, fragmented MP4)가 필요하며, 체크포인트는 노드 메모리에 보관되므로
+ * 같은 입력의 요청은 같은 노드로 보내야 합니다. 학습된 장면 경계 모델은 사용하지 않고 임계값 기반으로만 감지합니다.
+ */
+@Service
+public class TailSceneDetectionService {
+
+  private static final Logger log = LoggerFactory.getLogger(TailSceneDetectionService.class);
+
+  /** 체크포인트 이전부터 다시 디코딩하는 구간 (초) */
+  static final double OVERLAP_SEC = 2.0;
+
+  /** 기록 중일 수 있어 판정을 미루는 파일 끝 구간 (초) */
+  static final double SETTLE_SEC = 1.0;
+
+  /** 이 시간 동안 요청이 없는 체크포인트는 삭제 (ms) */
+  private static final long IDLE_EXPIRY_MS = 60 * 60 * 1000L;
+
+  private static final String SHOW_ENTRIES = "frame=pts_time:frame_tags=lavfi.scene_score";
+
+  private final FFprobe ffprobe;
+  private final String workDir;
+  private final SceneDetectionService sceneDetectionService;
+  private final FfmpegMetrics metrics;
+  private final FfmpegThreadAllocator threadAllocator;
+  private final FfmpegCapabilities capabilities;
+  private final Map<String, TailCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+  @Autowired
+  public TailSceneDetectionService(
+      @Lazy FFprobe ffprobe,
+      @Value("${ffmpeg.work-dir}") String workDir,
+      SceneDetectionService sceneDetectionService,
+      FfmpegMetrics metrics,
+      FfmpegThreadAllocator threadAllocator,
+      FfmpegCapabilities capabilities) {
+    this.ffprobe = ffprobe;
+    this.workDir = workDir;
+    this.sceneDetectionService = sceneDetectionService;
+    this.metrics = metrics;
+    this.threadAllocator = threadAllocator;
+    this.capabilities = capabilities;
+  }
+
+  /**
+   * 마지막 요청 이후 새로 추가된 구간에서 장면을 감지하고, 새로 확정된 장면의 클립/썸네일을 생성합니다.
+   *
+   * @param inputPath 입력 비디오 파일 경로 (기록 중일 수 있음)
+   * @param threshold 장면 감지 임계값 (0.0 ~ 1.0)
+   * @param complete 녹화가 끝났으면 true
+   * @return 새로 확정된 장면 정보
+   */
+  public TailSceneResponse detectNewScenes(String inputPath, double threshold, boolean complete)
+      throws IOException {
+    return metrics.time(
+        FfmpegMetrics.OP_SCENE_DETECT, () -> doDetectNewScenes(inputPath, threshold, complete));
+  }
+
+  private TailSceneResponse doDetectNewScenes(String inputPath, double threshold, boolean complete)
+      throws IOException {
+    evictIdleCheckpoints();
+    String key = inputPath + "@" + threshold;
+    TailCheckpoint checkpoint =
+        checkpoints.computeIfAbsent(
+            key,
+            k ->
+                new TailCheckpoint(
+                    Paths.get(workDir, "scenes_tail_" + System.currentTimeMillis())));
+
+    synchronized (checkpoint) {
+      checkpoint.lastAccess = System.currentTimeMillis();
+      double seek = Math.max(0, checkpoint.processedUntil - OVERLAP_SEC);
+      log.info(
+          "증분 장면 감지: Input={}, Seek={}s, ProcessedUntil={}s",
+          inputPath,
+          String.format("%.2f", seek),
+          String.format("%.2f", checkpoint.processedUntil));
+
+      TailScan scan = scan(inputPath, threshold, seek, checkpoint);
+      List<SceneDetectionService.SceneSegment> closed = advance(checkpoint, scan, complete);
+
+      Files.createDirectories(checkpoint.outputDir);
+      List<SceneResult> results =
+          sceneDetectionService.processSegments(
+              inputPath, closed, checkpoint.outputDir, checkpoint.nextIndex, false);
+      checkpoint.nextIndex += closed.size(); // 실패한 장면의 번호도 건너뛰어 파일 이름이 겹치지 않도록 함
+      checkpoint.sceneCount += results.size();
+
+      if (complete) {
+        checkpoints.remove(key, checkpoint);
+      }
+      log.info(
+          "증분 장면 감지 완료: New Scenes={}, Total Scenes={}, ProcessedUntil={}s",
+          results.size(),
+          checkpoint.sceneCount,
+          String.format("%.2f", checkpoint.processedUntil));
+      return new TailSceneResponse(
+          checkpoint.sceneCount, checkpoint.processedUntil, complete, results);
+    }
+  }
+
+  /**
+   * 새로 디코딩한 구간의 전환 시점으로 체크포인트를 갱신하고, 새로 닫힌 장면 구간을 반환합니다.
+   *
+   * @param checkpoint 입력별 체크포인트 (갱신됨)
+   * @param scan 체크포인트 직전부터 디코딩한 결과
+   * @param complete 녹화 종료 여부 (true이면 파일 끝까지 판정하고 마지막 장면을 닫음)
+   * @return 새로 닫힌 장면 구간 (0.5초 미만 구간 제외)
+   */
+  static List<SceneDetectionService.SceneSegment> advance(
+      TailCheckpoint checkpoint, TailScan scan, boolean complete) {
+    List<SceneDetectionService.SceneSegment> closed = new ArrayList<>();
+    if (Double.isNaN(scan.lastPts())) {
+      return closed; // 새로 디코딩된 프레임 없음
+    }
+
+    double commitUntil = complete ? scan.lastPts() : scan.lastPts() - SETTLE_SEC;
+    DoubleArray cuts = scan.cuts();
+    for (int i = 0; i < cuts.size(); i++) {
+      double cut = cuts.get(i);
+      if (cut <= checkpoint.processedUntil) {
+        continue; // 이전 요청에서 이미 판정한 구간 (overlap)
+      }
+      if (cut > commitUntil) {
+        break;
+      }
+      if (cut - checkpoint.sceneStart >= SceneDetectionService.MIN_SCENE_DURATION) {
+        closed.add(new SceneDetectionService.SceneSegment(checkpoint.sceneStart, cut));
+      }
+      checkpoint.sceneStart = cut;
+    }
+    checkpoint.processedUntil = Math.max(checkpoint.processedUntil, commitUntil);
+
+    if (complete
+        && scan.lastPts() - checkpoint.sceneStart >= SceneDetectionService.MIN_SCENE_DURATION) {
+      closed.add(new SceneDetectionService.SceneSegment(checkpoint.sceneStart, scan.lastPts()));
+      checkpoint.sceneStart = scan.lastPts();
+    }
+    return closed;
+  }
+
+  /**
+   * seek 지점부터 모든 프레임의 scene score를 출력하는 lavfi 그래프를 만듭니다.
+   *
+   * <p>`select` 표현식의 쉼표는 필터 구분자로 해석되지 않도록 `\,` 한 번만 이스케이프합니다.
+   *
+   * @param inputPath 입력 비디오 파일 경로
+   * @param seek 디코딩 시작 위치 (초, 0이면 처음부터)
+   * @param decThreads `movie` 소스 디코더 스레드 옵션 ({@link FfmpegCapabilities#movieDecoderThreads})
+   * @return `-f lavfi -i`에 넘길 필터 그래프
+   */
+  static String scanGraph(String inputPath, double seek, String decThreads) {
+    return seek > 0
+        ? String.format(
+            Locale.ROOT, "movie=%s:sp=%.6f%s,select=gte(scene\\,0)", inputPath, seek, decThreads)
+        : String.format(Locale.ROOT, "movie=%s%s,select=gte(scene\\,0)", inputPath, decThreads);
+  }
+
+  /** seek 지점부터 파일 끝까지 디코딩하여 모든 프레임의 scene score를 확인합니다. */
+  private TailScan scan(String inputPath, double threshold, double seek, TailCheckpoint checkpoint)
+      throws IOException {
+    try (FfmpegThreadAllocator.Allocation allocation = threadAllocator.acquire()) {
+      String graph =
+          scanGraph(inputPath, seek, capabilities.movieDecoderThreads(allocation.threads()));
+
+      ProcessBuilder pb =
+          new ProcessBuilder(
+              ffprobe.getPath(),
+              "-v",
+              "error",
+              "-show_entries",
+              SHOW_ENTRIES,
+              "-of",
+              "compact=p=0",
+              "-f",
+              "lavfi",
+              "-i",
+              graph);
+      pb.redirectErrorStream(true); // 기록 중인 파일 끝의 디코딩 오류 메시지는 파서가 무시
+      Process process = metrics.start(pb);
+
+      TailScan scan;
+      try (InputStream in = process.getInputStream()) {
+        scan = parseScan(in, threshold);
+      }
+      try {
+        process.waitFor();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("증분 장면 감지 대기 중 인터럽트 발생", e);
+      }
+
+      long inputBytes = newBytes(checkpoint, Files.size(Paths.get(inputPath)));
+      metrics.bytesRead(FfmpegMetrics.OP_SCENE_DETECT, inputBytes);
+      allocation.complete(inputBytes);
+      return scan;
+    }
+  }
+
+  /**
+   * 직전 요청 이후 늘어난 파일 크기를 반환하고 체크포인트에 현재 크기를 기록합니다.
+   *
+   * <p>매 요청은 체크포인트 직전부터만 디코딩하므로, 읽은 바이트 지표와 스레드 할당기의 처리량 측정에는 새로 추가된 부분만
+   * 반영합니다. (파일 전체 크기를 보고하면 녹화 길이의 제곱에 비례해 커짐)
+   *
+   * @param checkpoint 입력별 체크포인트 (갱신됨)
+   * @param fileSize 현재 파일 크기
+   * @return 새로 추가된 바이트 수
+   */
+  static long newBytes(TailCheckpoint checkpoint, long fileSize) {
+    long added = Math.max(0, fileSize - checkpoint.scannedBytes);
+    checkpoint.scannedBytes = fileSize;
+    return added;
+  }
+
+  /**
+   * ffprobe compact 출력(`pts_time=...|tag:lavfi.scene_score=...`)에서 임계값을 넘는 전환 시점과 마지막 프레임 시간을
+   * 읽습니다.
+   */
+  static TailScan parseScan(InputStream in, double threshold) throws IOException {
+    byte[] ptsKey = "pts_time".getBytes(StandardCharsets.US_ASCII);
+    byte[] scoreKey = "tag:lavfi.scene_score".getBytes(StandardCharsets.US_ASCII);
+    DoubleArray cuts = new DoubleArray();
+    double[] lastPts = {Double.NaN};
+
+    new FfprobeOutputParser()
+        .parse(
+            in,
+            (buf, start, end) -> {
+              double pts = Double.NaN;
+              double score = Double.NaN;
+              int pos = start;
+              while (pos < end) {
+                int sep = pos;
+                while (sep < end && buf[sep] != '|') sep++;
+                int eq = pos;
+                while (eq < sep && buf[eq] != '=') eq++;
+                if (eq < sep) {
+                  if (FfprobeOutputParser.regionEquals(buf, pos, eq, ptsKey)) {
+                    pts = FfprobeOutputParser.parseDouble(buf, eq + 1, sep);
+                  } else if (FfprobeOutputParser.regionEquals(buf, pos, eq, scoreKey)) {
+                    score = FfprobeOutputParser.parseDouble(buf, eq + 1, sep);
+                  }
+                }
+                pos = sep + 1;
+              }
+              if (Double.isNaN(pts)) {
+                return; // 로그 등
+              }
+              if (Double.isNaN(lastPts[0]) || pts > lastPts[0]) {
+                lastPts[0] = pts;
+              }
+              if (score > threshold) {
+                cuts.add(pts);
+              }
+            });
+    cuts.sortAndDedupe();
+    return new TailScan(cuts, lastPts[0]);
+  }
+
+  private void evictIdleCheckpoints() {
+    long now = System.currentTimeMillis();
+    checkpoints.values().removeIf(checkpoint -> now - checkpoint.lastAccess > IDLE_EXPIRY_MS);
+  }
+
+  /**
+   * 한 번의 디코딩 결과
+   *
+   * @param cuts 임계값을 넘은 전환 시점 (오름차순)
+   * @param lastPts 마지막으로 디코딩된 프레임 시간 (프레임이 없으면 NaN)
+   */
+  record TailScan(DoubleArray cuts, double lastPts) {}
+
+  /** 입력별 증분 감지 상태 */
+  static final class TailCheckpoint {
+
+    final Path outputDir;
+    /** 이 시점까지의 전환은 판정 완료 */
+    double processedUntil;
+    /** 아직 닫히지 않은 현재 장면의 시작 시점 */
+    double sceneStart;
+    /** 지금까지 확정된 장면 수 */
+    int sceneCount;
+    /** 다음 장면의 클립 파일 번호 */
+    int nextIndex = 1;
+    /** 직전 요청 시점의 파일 크기 (읽은 바이트 지표용) */
+    long scannedBytes;
+
+    volatile long lastAccess = System.currentTimeMillis();
+
+    TailCheckpoint(Path outputDir) {
+      this.outputDir = outputDir;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.gdpark.ffmpeg.util;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없이 `double` 값을 담는 가변 길이 배열입니다.
+ *
+ * <p>장면 전환 타임스탬프처럼 값이 많은 시계열을 `List<Double>` 대신 보관하며, 정렬/중복 제거를 제자리(in-place)에서 수행하여
+ * 장면 구간 생성용 타임라인으로도 사용합니다.
+ */
+public final class DoubleArray {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private double[] values;
+  private int size;
+
+  public DoubleArray() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public DoubleArray(int initialCapacity) {
+    this.values = new double[Math.max(1, initialCapacity)];
+  }
+
+  /** 주어진 값들로 배열을 생성합니다. */
+  public static DoubleArray of(double... values) {
+    DoubleArray array = new DoubleArray(values.length);
+    System.arraycopy(values, 0, array.values, 0, values.length);
+    array.size = values.length;
+    return array;
+  }
+
+  /** 값을 끝에 추가합니다. 용량이 부족하면 2배로 확장합니다. */
+  public void add(double value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size * 2);
+    }
+    values[size++] = value;
+  }
+
+  public double get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+    return values[index];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** 용량은 유지한 채 모든 값을 제거합니다. (버퍼 재사용) */
+  public void clear() {
+    size = 0;
+  }
+
+  /** 값을 오름차순으로 정렬하고 중복 값을 제거합니다. (추가 할당 없음) */
+  public void sortAndDedupe() {
+    Arrays.sort(values, 0, size);
+    if (size < 2) {
+      return;
+    }
+    int unique = 1;
+    for (int i = 1; i < size; i++) {
+      if (Double.compare(values[i], values[unique - 1]) != 0) {
+        values[unique++] = values[i];
+      }
+    }
+    size = unique;
+  }
+
+  /** 같은 값을 가진 독립된 복사본을 반환합니다. */
+  public DoubleArray copy() {
+    DoubleArray copy = new DoubleArray(size);
+    System.arraycopy(values, 0, copy.values, 0, size);
+    copy.size = size;
+    return copy;
+  }
+
+  public double[] toArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+}
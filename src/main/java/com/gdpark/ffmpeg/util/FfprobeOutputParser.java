@@ -0,0 +1,191 @@
+package com.gdpark.ffmpeg.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ffprobe/ffmpeg 텍스트 출력을 바이트 단위로 읽는 스트리밍 파서입니다.
+ *
+ * <p>프로세스 표준 출력을 재사용 버퍼로 읽어 줄 단위로 {@link LineHandler}에 바이트 구간을 넘기며, 줄마다 `String`을 만들지
+ * 않습니다. 숫자는 {@link #parseDouble(byte[], int, int)}로 바이트에서 바로 변환하므로, 프레임 수에 관계없이 작업당 할당되는 객체
+ * 수가 일정합니다. 출력은 ASCII로 간주합니다.
+ */
+public final class FfprobeOutputParser {
+
+  private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  /** 정확히 표현 가능한 10의 거듭제곱 (10^0 ~ 10^22) */
+  private static final double[] POWERS_OF_TEN = new double[23];
+
+  /** 2^53: 이보다 작은 정수 가수는 double로 정확히 표현됨 */
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+  static {
+    POWERS_OF_TEN[0] = 1.0;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+    }
+  }
+
+  private byte[] buffer;
+
+  public FfprobeOutputParser() {
+    this(DEFAULT_BUFFER_SIZE);
+  }
+
+  public FfprobeOutputParser(int bufferSize) {
+    this.buffer = new byte[bufferSize];
+  }
+
+  /** 한 줄의 바이트 구간 `[start, end)`를 처리하는 콜백입니다. (줄바꿈 문자 제외) */
+  @FunctionalInterface
+  public interface LineHandler {
+    void onLine(byte[] buf, int start, int end);
+  }
+
+  /**
+   * 스트림 끝까지 읽으며 비어 있지 않은 줄마다 핸들러를 호출합니다.
+   *
+   * @param in 프로세스 표준 출력 등 입력 스트림
+   * @param handler 줄 처리 콜백 (전달된 버퍼는 호출이 끝나면 재사용됨)
+   * @return 읽은 총 바이트 수
+   * @throws IOException 읽기 실패 시 발생
+   */
+  public long parse(InputStream in, LineHandler handler) throws IOException {
+    long total = 0;
+    int filled = 0;
+    int read;
+    while ((read = in.read(buffer, filled, buffer.length - filled)) != -1) {
+      total += read;
+      filled += read;
+
+      int lineStart = 0;
+      for (int i = 0; i < filled; i++) {
+        if (buffer[i] == '\n') {
+          emit(handler, lineStart, i);
+          lineStart = i + 1;
+        }
+      }
+
+      // 남은 미완성 줄을 버퍼 앞으로 이동 (한 줄이 버퍼보다 길면 버퍼 확장)
+      filled -= lineStart;
+      System.arraycopy(buffer, lineStart, buffer, 0, filled);
+      if (filled == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+    }
+    if (filled > 0) {
+      emit(handler, 0, filled);
+    }
+    return total;
+  }
+
+  /**
+   * 한 줄에 숫자 하나씩 출력된 결과(`-of default=noprint_wrappers=1:nokey=1`)를 읽어 배열에 추가합니다. 숫자가 아닌 줄은
+   * 무시합니다.
+   *
+   * @param in 입력 스트림
+   * @param target 결과를 추가할 배열
+   * @return 읽은 총 바이트 수
+   * @throws IOException 읽기 실패 시 발생
+   */
+  public long readDoubles(InputStream in, DoubleArray target) throws IOException {
+    return parse(
+        in,
+        (buf, start, end) -> {
+          double value = parseDouble(buf, start, end);
+          if (!Double.isNaN(value)) {
+            target.add(value);
+          }
+        });
+  }
+
+  private void emit(LineHandler handler, int start, int end) {
+    // 앞뒤 공백 및 CR 제거
+    while (start < end && buffer[start] <= ' ') start++;
+    while (end > start && buffer[end - 1] <= ' ') end--;
+    if (start < end) {
+      handler.onLine(buffer, start, end);
+    }
+  }
+
+  /**
+   * 바이트 구간의 10진수 문자열을 double로 변환합니다.
+   *
+   * <p>일반적인 고정 소수점 형식(`-12.345678`)은 할당 없이 정확히 반올림된 값으로 변환하고, 지수 표기나 유효 자릿수가 많은 경우에만
+   * {@link Double#parseDouble(String)}으로 처리합니다. `inf`/`-inf`는 무한대로 변환합니다.
+   *
+   * @return 변환된 값, 숫자가 아니면 {@link Double#NaN}
+   */
+  public static double parseDouble(byte[] buf, int start, int end) {
+    while (start < end && buf[start] <= ' ') start++;
+    while (end > start && buf[end - 1] <= ' ') end--;
+    if (start >= end) {
+      return Double.NaN;
+    }
+
+    int i = start;
+    boolean negative = false;
+    if (buf[i] == '-' || buf[i] == '+') {
+      negative = buf[i] == '-';
+      i++;
+    }
+    if (end - i == 3 && buf[i] == 'i' && buf[i + 1] == 'n' && buf[i + 2] == 'f') {
+      return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int fractionDigits = 0;
+    boolean seenDot = false;
+    boolean exact = true;
+    for (; i < end; i++) {
+      byte b = buf[i];
+      if (b >= '0' && b <= '9') {
+        if (mantissa < MAX_EXACT_MANTISSA / 10) {
+          mantissa = mantissa * 10 + (b - '0');
+          if (seenDot) fractionDigits++;
+        } else {
+          exact = false;
+        }
+        digits++;
+      } else if (b == '.' && !seenDot) {
+        seenDot = true;
+      } else if (b == 'e' || b == 'E') {
+        exact = false;
+        break;
+      } else {
+        return Double.NaN;
+      }
+    }
+    if (digits == 0) {
+      return Double.NaN;
+    }
+
+    if (exact && fractionDigits < POWERS_OF_TEN.length) {
+      // 가수와 10^k가 모두 정확히 표현되므로 한 번의 나눗셈 결과는 정확히 반올림된 값
+      double value = mantissa / POWERS_OF_TEN[fractionDigits];
+      return negative ? -value : value;
+    }
+    try {
+      return Double.parseDouble(new String(buf, start, end - start, StandardCharsets.US_ASCII));
+    } catch (NumberFormatException e) {
+      return Double.NaN;
+    }
+  }
+
+  /** 바이트 구간 `[start, end)`가 주어진 ASCII 키와 같은지 비교합니다. */
+  public static boolean regionEquals(byte[] buf, int start, int end, byte[] key) {
+    if (end - start != key.length) {
+      return false;
+    }
+    for (int i = 0; i < key.length; i++) {
+      if (buf[start + i] != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
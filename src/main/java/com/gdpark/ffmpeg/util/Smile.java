@@ -5,19 +5,43 @@ import smile.regression.RandomForest;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.ParseException;
 
 import static smile.io.Read.arff;
 
+/**
+ * Smile 랜덤 포레스트 예제 모델을 오프라인으로 학습하고 직렬화하는 CLI입니다.
+ *
+ * <p>사용법: {@code Smile [<arff 경로> [<모델 출력 경로>]]} (기본값: `iris.arff`, `models/iris.model`)
+ */
 public class Smile {
-  public void smileRun() throws IOException, ParseException, URISyntaxException {
-    var iris = arff("iris.arff");
 
-    // 랜덤 포레스트 모델 학슴
+  public static void main(String[] args) throws IOException, ParseException, URISyntaxException {
+    String arffPath = args.length > 0 ? args[0] : "iris.arff";
+    Path modelOut = Paths.get(args.length > 1 ? args[1] : "models/iris.model");
+    new Smile().smileRun(arffPath, modelOut);
+  }
+
+  public RandomForest smileRun(String arffPath, Path modelOut)
+      throws IOException, ParseException, URISyntaxException {
+    var iris = arff(arffPath);
+
+    // 랜덤 포레스트 모델 학습
     var model = RandomForest.fit(Formula.lhs("class"), iris);
 
     // 결과 출력
     System.out.println("모델 정확도 및 지표");
     System.out.println(model.metrics());
+
+    // 모델 직렬화 (ModelRegistry에서 로드)
+    if (modelOut.getParent() != null) {
+      Files.createDirectories(modelOut.getParent());
+    }
+    smile.io.Write.object(model, modelOut);
+    System.out.println("모델 저장 완료: " + modelOut.toAbsolutePath());
+    return model;
   }
 }
@@ -0,0 +1,87 @@
+package com.gdpark.ffmpeg;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupBudgetTest {
+
+  /** 첫 요청 응답까지의 허용 시간 (시스템 프로퍼티 `startup.budget-ms`로 조정 가능) */
+  private static final long BUDGET_MS = Long.getLong("startup.budget-ms", 10_000);
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("fast-startup 프로파일 실행 파일 없이 기동 및 첫 요청 처리 테스트")
+  void firstRequestWithoutBinaries() {
+    // 실행 파일이 없어도 지연 검증 덕분에 기동 및 업로드 요청은 성공해야 함
+    timeToFirstRequest();
+  }
+
+  /** 부하가 있는 CI 머신에서는 흔들리므로 기본 `test`에서 제외 (`./gradlew startupBudgetTest`) */
+  @Test
+  @Tag("startup-budget")
+  @DisplayName("fast-startup 프로파일 첫 요청 응답 시간 테스트")
+  void firstRequestWithinBudget() {
+    assertThat(timeToFirstRequest().toMillis()).isLessThan(BUDGET_MS);
+  }
+
+  /** fast-startup 프로파일로 기동해 업로드 요청 하나가 성공하기까지의 시간을 잽니다. */
+  private Duration timeToFirstRequest() {
+    long startNanos = System.nanoTime();
+
+    try (ConfigurableApplicationContext context =
+        FfmpegFfprobeApplication.createApplication()
+            .run(
+                "--spring.profiles.active=fast-startup",
+                "--server.port=0",
+                "--ffmpeg.ffmpeg-path=/nonexistent/ffmpeg",
+                "--ffmpeg.ffprobe-path=/nonexistent/ffprobe",
+                "--ffmpeg.work-dir=" + tempDir)) {
+      String port = context.getEnvironment().getProperty("local.server.port");
+
+      HttpHeaders headers = new HttpHeaders();
+      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+      MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+      body.add(
+          "file",
+          new ByteArrayResource("content".getBytes()) {
+            @Override
+            public String getFilename() {
+              return "test.mp4";
+            }
+          });
+
+      ResponseEntity<Map<String, Object>> response =
+          new RestTemplate()
+              .exchange(
+                  "http://localhost:" + port + "/media/upload",
+                  HttpMethod.POST,
+                  new HttpEntity<>(body, headers),
+                  new ParameterizedTypeReference<Map<String, Object>>() {});
+
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+      assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+      return elapsed;
+    }
+  }
+}
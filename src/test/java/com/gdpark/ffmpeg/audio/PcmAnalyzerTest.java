@@ -0,0 +1,74 @@
+package com.gdpark.ffmpeg.audio;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PcmAnalyzerTest {
+
+  @Test
+  @DisplayName("1kHz 0dBFS 사인파 라우드니스 테스트 (BS.1770 기준 -3.01 LUFS)")
+  void integratedLoudness() {
+    // Given
+    byte[] pcm = sinePcm(1, 3.0, -1, -1);
+    PcmAnalyzer analyzer = new PcmAnalyzer(1, 0.05, -50, 0.3);
+
+    // When
+    analyzer.accept(pcm, 0, pcm.length);
+    analyzer.finish();
+
+    // Then
+    assertThat(analyzer.duration()).isEqualTo(3.0);
+    assertThat(analyzer.integratedLoudness()).isCloseTo(-3.01, within(0.05));
+    assertThat(analyzer.peakDb()).isCloseTo(0.0, within(0.05));
+    assertThat(analyzer.rmsEnvelope().size()).isEqualTo(60);
+  }
+
+  @Test
+  @DisplayName("read 경계에서 샘플이 잘려도 무음 구간을 감지하는지 테스트")
+  void silenceAcrossChunks() {
+    // Given: 스테레오, 1~2초 무음
+    byte[] pcm = sinePcm(2, 3.0, 1.0, 2.0);
+    PcmAnalyzer analyzer = new PcmAnalyzer(2, 0.05, -50, 0.3);
+
+    // When: 프레임(4바이트) 크기와 맞지 않는 단위로 공급
+    for (int off = 0; off < pcm.length; off += 777) {
+      analyzer.accept(pcm, off, Math.min(777, pcm.length - off));
+    }
+    analyzer.finish();
+
+    // Then
+    assertThat(analyzer.silenceStarts().toArray()).containsExactly(1.0);
+    assertThat(analyzer.silenceEnds().toArray()).containsExactly(2.0);
+    assertThat(analyzer.rmsEnvelope().get(30)).isEqualTo(PcmAnalyzer.MIN_DB);
+  }
+
+  @Test
+  @DisplayName("최소 길이보다 짧은 윈도우 거부 테스트")
+  void rejectTinyWindow() {
+    assertThatThrownBy(() -> new PcmAnalyzer(2, 0.0, -50, 0.3))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new PcmAnalyzer(2, -0.05, -50, 0.3))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /** [silenceFrom, silenceTo) 구간은 무음인 1kHz 사인파 s16le PCM */
+  private static byte[] sinePcm(int channels, double seconds, double silenceFrom, double silenceTo) {
+    int frames = (int) (seconds * PcmAnalyzer.SAMPLE_RATE);
+    byte[] pcm = new byte[frames * channels * 2];
+    int pos = 0;
+    for (int i = 0; i < frames; i++) {
+      double t = (double) i / PcmAnalyzer.SAMPLE_RATE;
+      double value = t >= silenceFrom && t < silenceTo ? 0 : Math.sin(2 * Math.PI * 1000 * t);
+      short sample = (short) Math.round(value * Short.MAX_VALUE);
+      for (int c = 0; c < channels; c++) {
+        pcm[pos++] = (byte) sample;
+        pcm[pos++] = (byte) (sample >> 8);
+      }
+    }
+    return pcm;
+  }
+}
@@ -1,9 +1,11 @@
 package com.gdpark.ffmpeg.controller;
 
+import com.gdpark.ffmpeg.service.AudioAnalysisService;
 import com.gdpark.ffmpeg.service.FileStorageService;
 import com.gdpark.ffmpeg.service.MediaInfoService;
 import com.gdpark.ffmpeg.service.MediaProcessingService;
 import com.gdpark.ffmpeg.service.SceneDetectionService;
+import com.gdpark.ffmpeg.service.TailSceneDetectionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +17,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -42,6 +47,12 @@ class MediaControllerTest {
     @MockBean
     private FileStorageService fileStorageService;
 
+    @MockBean
+    private TailSceneDetectionService tailSceneDetectionService;
+
+    @MockBean
+    private AudioAnalysisService audioAnalysisService;
+
     @Test
     @DisplayName("파일 업로드 API 테스트")
     void uploadFile() throws Exception {
@@ -58,4 +69,20 @@ class MediaControllerTest {
                 .andExpect(jsonPath("$.path").value("/tmp/uploads/uuid_test.mp4"));
     }
 
+    @Test
+    @DisplayName("너무 짧은 오디오 분석 윈도우 요청 거부 테스트")
+    void analyzeAudioRejectsTinyWindow() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/media/audio/analysis")
+                .param("path", "/tmp/a.mp4")
+                .param("window", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/media/audio/analysis")
+                .param("path", "/tmp/a.mp4")
+                .param("window", "-1"))
+                .andExpect(status().isBadRequest());
+
+        then(audioAnalysisService).should(never()).analyze(anyString(), anyDouble());
+    }
+
 }
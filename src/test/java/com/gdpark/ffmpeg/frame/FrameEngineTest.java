@@ -0,0 +1,79 @@
+package com.gdpark.ffmpeg.frame;
+
+import com.gdpark.ffmpeg.util.DoubleArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FrameEngineTest {
+
+  private static final int FRAME_SIZE = FrameEngine.WIDTH * FrameEngine.HEIGHT;
+
+  @Test
+  @DisplayName("raw 프레임 스트림 분석 및 버퍼 반납 테스트")
+  void analyzeFrames() throws IOException {
+    // Given: 어두운 프레임 5개 -> 밝은 프레임 5개, 끝에 잘린 프레임
+    byte[] stream = new byte[FRAME_SIZE * 10 + 100];
+    Arrays.fill(stream, 0, FRAME_SIZE * 5, (byte) 16);
+    Arrays.fill(stream, FRAME_SIZE * 5, stream.length, (byte) 200);
+    FrameBufferPool pool = new FrameBufferPool(FRAME_SIZE, 4);
+
+    // When
+    Map<String, DoubleArray> scores =
+        FrameEngine.analyzeFrames(
+            Channels.newChannel(new ByteArrayInputStream(stream)),
+            List.of(new SadAnalyzer(), new HistogramDifferenceAnalyzer()),
+            pool);
+
+    // Then: 전환 프레임(5번)만 점수가 있음 (SAD는 ffmpeg scene 척도: 184 / 256)
+    double[] sad = scores.get(SadAnalyzer.NAME).toArray();
+    double[] histogram = scores.get(HistogramDifferenceAnalyzer.NAME).toArray();
+    assertThat(sad).hasSize(10);
+    assertThat(sad[5]).isCloseTo(0.71875, within(1e-9));
+    assertThat(histogram[5]).isEqualTo(1.0);
+    assertThat(Arrays.stream(sad).sum()).isCloseTo(0.71875, within(1e-9));
+    assertThat(Arrays.stream(histogram).sum()).isEqualTo(1.0);
+    assertThat(pool.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("showinfo 로그 프레임 시간 파싱 테스트")
+  void readPts() {
+    // Given
+    String stderr =
+        "Input #0, mov,mp4,m4a,3gp,3g2,mj2, from 'a.mp4':\n"
+            + "[Parsed_showinfo_2 @ 0x1] config in time_base: 1/15360, frame_rate: 30/1\n"
+            + "[Parsed_showinfo_2 @ 0x1] n:   0 pts:      0 pts_time:0       duration:512\n"
+            + "[Parsed_showinfo_2 @ 0x1] n:   1 pts:    512 pts_time:0.0333333 duration:512\n";
+    DoubleArray pts = new DoubleArray();
+
+    // When
+    FrameEngine.readPts(new ByteArrayInputStream(stderr.getBytes(StandardCharsets.US_ASCII)), pts);
+
+    // Then
+    assertThat(pts.toArray()).containsExactly(0.0, 0.0333333);
+  }
+
+  @Test
+  @DisplayName("FFmpeg 5.1 미만에서도 동작하는 ffmpeg 명령 생성 테스트")
+  void command() {
+    // When
+    List<String> command = FrameEngine.command("/opt/ffmpeg/bin/ffmpeg", "in.mp4", 3);
+
+    // Then: -fps_mode(5.1+) 대신 -vsync passthrough
+    assertThat(command).startsWith("/opt/ffmpeg/bin/ffmpeg").doesNotContain("-fps_mode");
+    assertThat(command).containsSequence("-threads", "3", "-i", "in.mp4");
+    assertThat(command).containsSequence("-vsync", "passthrough");
+    assertThat(command).endsWith("-f", "rawvideo", "pipe:1");
+  }
+}
@@ -0,0 +1,36 @@
+package com.gdpark.ffmpeg.frame;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HammingIndexTest {
+
+  @Test
+  @DisplayName("해밍 거리 기반 근사 중복 그룹 테스트")
+  void groupNearDuplicates() {
+    // Given: 0, 2는 같은 화면(2비트 차이), 3은 1과 같은 화면, 1과 4는 서로 다른 화면
+    long slideA = 0x0F0F_0F0F_0F0F_0F0FL;
+    long slideB = 0xFFFF_0000_FFFF_0000L;
+    long[] hashes = {slideA, slideB, slideA ^ 0b101, slideB, ~slideA};
+
+    // When
+    int[] representativeOf = HammingIndex.groupNearDuplicates(hashes, 4);
+
+    // Then
+    assertThat(representativeOf).containsExactly(-1, -1, 0, 1, -1);
+  }
+
+  @Test
+  @DisplayName("가장 가까운 해시 검색 테스트")
+  void nearest() {
+    HammingIndex index = new HammingIndex();
+    index.add(0L, 10);
+    index.add(0b1111L, 20);
+
+    assertThat(index.nearest(0b0111L, 4)).isEqualTo(20);
+    assertThat(index.nearest(0b0001L, 4)).isEqualTo(10);
+    assertThat(index.nearest(-1L, 4)).isEqualTo(-1);
+  }
+}
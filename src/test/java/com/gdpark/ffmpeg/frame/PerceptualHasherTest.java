@@ -0,0 +1,34 @@
+package com.gdpark.ffmpeg.frame;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHasherTest {
+
+  @Test
+  @DisplayName("dHash 계산 및 밝기 변화 내성 테스트")
+  void dHash() {
+    // Given: 왼쪽이 밝은 그라데이션, 같은 화면을 약간 밝게 한 프레임, 좌우 반전 프레임
+    byte[] frames = new byte[PerceptualHasher.FRAME_SIZE * 3];
+    for (int y = 0; y < PerceptualHasher.HASH_HEIGHT; y++) {
+      for (int x = 0; x < PerceptualHasher.HASH_WIDTH; x++) {
+        int pixel = y * PerceptualHasher.HASH_WIDTH + x;
+        frames[pixel] = (byte) (200 - x * 20);
+        frames[PerceptualHasher.FRAME_SIZE + pixel] = (byte) (210 - x * 20);
+        frames[PerceptualHasher.FRAME_SIZE * 2 + pixel] = (byte) (40 + x * 20);
+      }
+    }
+
+    // When
+    long original = PerceptualHasher.dHash(frames, 0);
+    long brighter = PerceptualHasher.dHash(frames, PerceptualHasher.FRAME_SIZE);
+    long mirrored = PerceptualHasher.dHash(frames, PerceptualHasher.FRAME_SIZE * 2);
+
+    // Then
+    assertThat(original).isEqualTo(-1L);
+    assertThat(brighter).isEqualTo(original);
+    assertThat(Long.bitCount(original ^ mirrored)).isEqualTo(64);
+  }
+}
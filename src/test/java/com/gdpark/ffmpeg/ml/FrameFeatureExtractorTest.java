@@ -0,0 +1,75 @@
+package com.gdpark.ffmpeg.ml;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FrameFeatureExtractorTest {
+
+  @Test
+  @DisplayName("ffprobe compact 출력 파싱 테스트")
+  void parse() throws IOException {
+    // Given
+    String output =
+        String.join(
+            "\n",
+            "media_type=audio|pts_time=0.000000|tag:lavfi.astats.Overall.RMS_level=-60.000000",
+            "media_type=video|pts_time=0.000000|tag:lavfi.scene_score=0.000000"
+                + "|tag:lavfi.signalstats.YAVG=100.0|tag:lavfi.signalstats.UAVG=128.0"
+                + "|tag:lavfi.signalstats.VAVG=128.0",
+            "media_type=audio|pts_time=0.040000|tag:lavfi.astats.Overall.RMS_level=-inf",
+            "media_type=video|pts_time=0.040000|tag:lavfi.scene_score=0.800000"
+                + "|tag:lavfi.signalstats.YAVG=40.0|tag:lavfi.signalstats.UAVG=120.0"
+                + "|tag:lavfi.signalstats.VAVG=130.0",
+            "some log line");
+
+    // When
+    FrameFeatures features =
+        FrameFeatureExtractor.parse(
+            new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(features.size()).isEqualTo(2);
+    assertThat(features.pts(1)).isEqualTo(0.04);
+    assertThat(features.value(0, 3)).isCloseTo(-0.5, within(1e-9));
+    assertThat(features.value(1, 0)).isEqualTo(0.8);
+    assertThat(features.value(1, 1)).isEqualTo(60.0);
+    assertThat(features.value(1, 2)).isEqualTo(6.0);
+    assertThat(features.value(1, 3)).isEqualTo(-1.0);
+    assertThat(features.value(1, 4)).isCloseTo(0.5, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("정답 시간 허용 오차 라벨링 테스트")
+  void isBoundary() {
+    double[] boundaries = {1.0, 5.0};
+
+    assertThat(SceneBoundaryTrainer.isBoundary(1.04, boundaries)).isTrue();
+    assertThat(SceneBoundaryTrainer.isBoundary(4.96, boundaries)).isTrue();
+    assertThat(SceneBoundaryTrainer.isBoundary(3.0, boundaries)).isFalse();
+  }
+
+  @Test
+  @DisplayName("경계/비경계 프레임 균형 추출 테스트")
+  void balancedSample() {
+    // Given: 1000 프레임 중 경계 3개
+    int[] labels = new int[1000];
+    labels[100] = labels[500] = labels[900] = 1;
+
+    // When
+    int[] sample = SceneBoundaryTrainer.balancedSample(labels, 10, new Random(42));
+
+    // Then: 경계 프레임은 모두, 비경계 프레임은 30개
+    assertThat(sample).hasSize(33).contains(100, 500, 900).isSorted();
+    assertThat(Arrays.stream(sample).filter(i -> labels[i] == 0).count()).isEqualTo(30);
+    assertThat(SceneBoundaryTrainer.balancedSample(new int[10], 10, new Random(42))).isEmpty();
+  }
+}
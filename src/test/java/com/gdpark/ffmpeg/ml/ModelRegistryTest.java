@@ -0,0 +1,61 @@
+package com.gdpark.ffmpeg.ml;
+
+import com.gdpark.ffmpeg.config.ModelProperties;
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ModelRegistryTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("직렬화된 모델 지연 로드 테스트")
+  void getLoadsOnce() throws IOException {
+    // Given
+    Path modelPath = tempDir.resolve("dummy.model");
+    try (var out = new ObjectOutputStream(Files.newOutputStream(modelPath))) {
+      out.writeObject(new ArrayList<>(List.of(1, 2, 3)));
+    }
+    ModelRegistry registry =
+        new ModelRegistry(
+            new ModelProperties(Map.of("dummy", modelPath.toString()), false),
+            new FfmpegMetrics(new SimpleMeterRegistry()));
+
+    // When
+    assertThat(registry.isWarm()).isFalse();
+    List<?> first = registry.get("dummy", List.class);
+    List<?> second = registry.get("dummy", List.class);
+
+    // Then
+    assertThat(first).containsExactly(1, 2, 3);
+    assertThat(second).isSameAs(first);
+    assertThat(registry.isWarm()).isTrue();
+  }
+
+  @Test
+  @DisplayName("설정되지 않은 모델 조회 테스트")
+  void missingModel() {
+    ModelRegistry registry =
+        new ModelRegistry(
+            new ModelProperties(Map.of("missing", tempDir.resolve("none.model").toString()), false),
+            new FfmpegMetrics(new SimpleMeterRegistry()));
+
+    assertThat(registry.isAvailable("missing")).isFalse();
+    assertThat(registry.isAvailable(ModelRegistry.SCENE_BOUNDARY)).isFalse();
+    assertThatThrownBy(() -> registry.get("missing", Object.class)).isInstanceOf(IOException.class);
+  }
+}
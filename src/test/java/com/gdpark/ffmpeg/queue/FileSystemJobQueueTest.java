@@ -0,0 +1,136 @@
+package com.gdpark.ffmpeg.queue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSystemJobQueueTest {
+
+  private static final Duration LEASE_TTL = Duration.ofMillis(400);
+  private static final Duration HEARTBEAT = Duration.ofMillis(100);
+  private static final Set<WorkItem.Type> ALL = EnumSet.allOf(WorkItem.Type.class);
+
+  @TempDir Path tempDir;
+
+  private FileSystemJobQueue nodeA;
+  private FileSystemJobQueue nodeB;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    // 같은 디렉토리를 공유하는 두 노드
+    nodeA = new FileSystemJobQueue(tempDir, "node-a", LEASE_TTL, HEARTBEAT);
+    nodeB = new FileSystemJobQueue(tempDir, "node-b", LEASE_TTL, HEARTBEAT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.close();
+    nodeB.close();
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 등록한 작업 점유 및 완료 테스트")
+  void claimAcrossNodes() throws Exception {
+    // Given
+    String first = nodeA.submit(WorkItem.audio("/tmp/a.mp4"));
+    String second =
+        nodeA.submit(WorkItem.clip("/tmp/a.mp4", 1.5, 3.0, "/tmp/c.mp4", "/tmp/t.jpg"));
+    assertThat(nodeA.depth()).isEqualTo(2);
+
+    // When: 종류 필터 및 등록 순서대로 점유
+    Optional<Lease> clip = nodeB.claim("b", EnumSet.of(WorkItem.Type.CLIP));
+    Optional<Lease> audio = nodeA.claim("a", ALL);
+    Optional<Lease> none = nodeB.claim("b", ALL);
+
+    // Then
+    assertThat(clip).get().extracting(Lease::jobId).isEqualTo(second);
+    assertThat(clip.get().item().doubleParam("start")).isEqualTo(1.5);
+    assertThat(audio).get().extracting(Lease::jobId).isEqualTo(first);
+    assertThat(none).isEmpty();
+    assertThat(nodeA.depth()).isZero();
+    assertThat(nodeA.status(second).get().state()).isEqualTo(JobStatus.State.RUNNING);
+
+    nodeB.complete(clip.get(), Map.of("clipPath", "/tmp/c.mp4"));
+    nodeA.fail(audio.get(), "no audio stream");
+
+    assertThat(nodeA.status(second).get().result()).containsEntry("clipPath", "/tmp/c.mp4");
+    assertThat(nodeB.status(first).get().state()).isEqualTo(JobStatus.State.FAILED);
+    assertThat(nodeB.status(first).get().error()).isEqualTo("no audio stream");
+  }
+
+  @Test
+  @DisplayName("하트비트 중단 시 점유 만료 및 회수 테스트")
+  void reclaimExpiredLease() throws Exception {
+    // Given
+    String jobId = nodeA.submit(WorkItem.audio("/tmp/a.mp4"));
+    Lease stale = nodeA.claim("a", ALL).orElseThrow();
+
+    // 하트비트가 도는 동안에는 만료되지 않음
+    Thread.sleep(LEASE_TTL.toMillis() * 2);
+    assertThat(nodeB.claim("b", ALL)).isEmpty();
+
+    // When: 노드 A 중단 (하트비트 정지)
+    nodeA.close();
+    Thread.sleep(LEASE_TTL.toMillis() * 2);
+    Lease reclaimed = nodeB.claim("b", ALL).orElseThrow();
+
+    // Then: 점유를 잃은 노드의 결과는 버려지고 회수한 노드의 결과가 기록됨
+    assertThat(reclaimed.attempt()).isEqualTo(stale.attempt() + 1);
+    nodeA.complete(stale, Map.of("outputPath", "stale"));
+    assertThat(nodeB.status(jobId).get().state()).isEqualTo(JobStatus.State.RUNNING);
+
+    nodeB.complete(reclaimed, Map.of("outputPath", "fresh"));
+    assertThat(nodeB.status(jobId).get().result()).containsEntry("outputPath", "fresh");
+  }
+
+  @Test
+  @DisplayName("완료된 작업의 남은 점유 파일 정리 테스트")
+  void pruneOrphanLease() throws Exception {
+    // Given: 완료 후 정리 도중 중단된 노드가 남긴 만료된 점유 파일
+    String jobId = nodeA.submit(WorkItem.audio("/tmp/a.mp4"));
+    nodeA.complete(nodeA.claim("a", ALL).orElseThrow(), Map.of());
+    Path orphan = tempDir.resolve("leases").resolve(jobId + ".1.lease");
+    Files.writeString(orphan, "owner=a\nexpiresAt=0\n");
+
+    // When
+    nodeB.prune();
+
+    // Then
+    assertThat(orphan).doesNotExist();
+    assertThat(nodeB.status(jobId).get().state()).isEqualTo(JobStatus.State.DONE);
+  }
+
+  @Test
+  @DisplayName("최대 시도 횟수를 넘은 작업의 실패 처리 테스트")
+  void failAfterMaxAttempts() throws Exception {
+    // Given: 시도 1회만 허용, 점유한 노드가 중단됨
+    try (FileSystemJobQueue nodeC =
+        new FileSystemJobQueue(tempDir, "node-c", LEASE_TTL, HEARTBEAT, 1)) {
+      String jobId = nodeA.submit(WorkItem.audio("/tmp/a.mp4"));
+      nodeA.claim("a", ALL).orElseThrow();
+      nodeA.close();
+      Thread.sleep(LEASE_TTL.toMillis() * 2);
+
+      // When
+      Optional<Lease> reclaimed = nodeC.claim("c", ALL);
+
+      // Then: 다시 점유하지 않고 실패로 기록
+      assertThat(reclaimed).isEmpty();
+      assertThat(nodeC.status(jobId).get().state()).isEqualTo(JobStatus.State.FAILED);
+      assertThat(nodeC.depth()).isZero();
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.gdpark.ffmpeg.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FfmpegCapabilitiesTest {
+
+  @Test
+  @DisplayName("movie 필터 dec_threads 지원 여부에 따른 옵션 생성 테스트")
+  void movieDecoderThreads() {
+    // Given: FFmpeg 5.1+ 도움말 / 이전 버전 도움말
+    AtomicInteger probes = new AtomicInteger();
+    FfmpegCapabilities supported =
+        new FfmpegCapabilities(
+            () -> {
+              probes.incrementAndGet();
+              return "movie AVOptions:\n   dec_threads       <int>        ..F....... (from 0)";
+            });
+    FfmpegCapabilities unsupported =
+        new FfmpegCapabilities(() -> "movie AVOptions:\n   stream_index      <int>");
+
+    // When / Then: 지원 여부는 한 번만 확인
+    assertThat(supported.movieDecoderThreads(4)).isEqualTo(":dec_threads=4");
+    assertThat(supported.movieDecoderThreads(2)).isEqualTo(":dec_threads=2");
+    assertThat(probes).hasValue(1);
+    assertThat(unsupported.movieDecoderThreads(4)).isEmpty();
+  }
+}
@@ -0,0 +1,70 @@
+package com.gdpark.ffmpeg.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FfmpegThreadAllocatorTest {
+
+  @Test
+  @DisplayName("동시 작업 수에 따른 코어 분배 테스트")
+  void splitCores() {
+    // Given: 8코어, 이 서비스가 만든 부하만 존재 (load average = 할당된 스레드 수)
+    int[] allocated = {0};
+    FfmpegThreadAllocator allocator =
+        new FfmpegThreadAllocator(8, () -> allocated[0], System::nanoTime);
+
+    // When
+    FfmpegThreadAllocator.Allocation first = allocator.acquire();
+    allocated[0] += first.threads();
+    FfmpegThreadAllocator.Allocation second = allocator.acquire();
+    allocated[0] += second.threads();
+    FfmpegThreadAllocator.Allocation third = allocator.acquire();
+
+    // Then
+    assertThat(first.threads()).isEqualTo(8);
+    assertThat(second.threads()).isEqualTo(4);
+    assertThat(third.threads()).isEqualTo(3);
+    first.close();
+    second.close();
+    third.close();
+  }
+
+  @Test
+  @DisplayName("외부 부하가 있을 때 남은 코어만 할당하는지 테스트")
+  void externalLoad() {
+    FfmpegThreadAllocator allocator = new FfmpegThreadAllocator(8, () -> 6.0, System::nanoTime);
+
+    try (FfmpegThreadAllocator.Allocation allocation = allocator.acquire()) {
+      assertThat(allocation.threads()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @DisplayName("처리량 감소 시 과할당 비율 조정 방향 전환 테스트")
+  void adaptFactor() {
+    // Given
+    long[] now = {0};
+    FfmpegThreadAllocator allocator = new FfmpegThreadAllocator(8, () -> 0, () -> now[0]);
+
+    // When: 1구간 100MB/s -> 비율 증가, 2구간 50MB/s -> 반대 방향으로 감소
+    runWindow(allocator, now, 100_000_000L);
+    double afterFirst = allocator.factor();
+    runWindow(allocator, now, 50_000_000L);
+
+    // Then
+    assertThat(afterFirst).isGreaterThan(1.0);
+    assertThat(allocator.factor()).isEqualTo(1.0);
+  }
+
+  /** 10초 동안 작업 8개를 완료하여 초당 bytesPerSecond 처리량을 만듭니다. */
+  private static void runWindow(FfmpegThreadAllocator allocator, long[] now, long bytesPerSecond) {
+    for (int i = 0; i < 8; i++) {
+      now[0] += 1_250_000_000L;
+      try (FfmpegThreadAllocator.Allocation allocation = allocator.acquire()) {
+        allocation.complete(bytesPerSecond * 10 / 8);
+      }
+    }
+  }
+}
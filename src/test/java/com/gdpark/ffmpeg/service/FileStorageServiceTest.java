@@ -1,5 +1,7 @@
 package com.gdpark.ffmpeg.service;
 
+import com.gdpark.ffmpeg.metrics.FfmpegMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,7 +23,7 @@ class FileStorageServiceTest {
   @BeforeEach
   void setUp() {
     // 임시 디렉토리를 작업 디렉토리로 설정
-    fileStorageService = new FileStorageService(tempDir.toString());
+    fileStorageService = new FileStorageService(tempDir.toString(), new FfmpegMetrics(new SimpleMeterRegistry()));
   }
 
   @Test
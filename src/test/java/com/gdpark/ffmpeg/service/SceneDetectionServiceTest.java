@@ -0,0 +1,146 @@
+package com.gdpark.ffmpeg.service;
+
+import com.gdpark.ffmpeg.config.JobQueueProperties;
+import com.gdpark.ffmpeg.dto.SceneResult;
+import com.gdpark.ffmpeg.frame.FrameScores;
+import com.gdpark.ffmpeg.frame.HistogramDifferenceAnalyzer;
+import com.gdpark.ffmpeg.frame.PerceptualHasher;
+import com.gdpark.ffmpeg.frame.SadAnalyzer;
+import com.gdpark.ffmpeg.queue.InMemoryJobQueue;
+import com.gdpark.ffmpeg.queue.Lease;
+import com.gdpark.ffmpeg.queue.WorkItem;
+import com.gdpark.ffmpeg.util.DoubleArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SceneDetectionServiceTest {
+
+  @Test
+  @DisplayName("장면 경계 무음 구간 보정 테스트")
+  void snapToSilences() {
+    // Given: 무음 구간 [4.0, 4.5], [9.0, 10.0]
+    DoubleArray cuts = DoubleArray.of(0.0, 3.8, 9.5, 12.0, 20.0);
+    DoubleArray silenceStarts = DoubleArray.of(4.0, 9.0, 20.6);
+    DoubleArray silenceEnds = DoubleArray.of(4.5, 10.0, 21.0);
+
+    // When
+    DoubleArray snapped =
+        SceneDetectionService.snapToSilences(cuts, silenceStarts, silenceEnds, 1.0);
+
+    // Then: 시작점/무음 안의 경계는 유지, 최대 거리 밖(12.0)은 유지, 나머지는 가까운 무음 경계로 이동
+    assertThat(snapped.toArray()).containsExactly(0.0, 4.0, 9.5, 12.0, 20.6);
+  }
+
+  @Test
+  @DisplayName("프레임 엔진 점수 장면 전환 판정 테스트")
+  void cutsFromScores() {
+    // Given: 2.0초는 움직임(히스토그램 변화 작음), 3.0초는 전환
+    FrameScores scores =
+        new FrameScores(
+            DoubleArray.of(0.0, 1.0, 2.0, 3.0),
+            Map.of(
+                SadAnalyzer.NAME, DoubleArray.of(0.0, 0.1, 0.5, 0.6),
+                HistogramDifferenceAnalyzer.NAME, DoubleArray.of(0.0, 0.05, 0.05, 0.4)));
+
+    // When
+    DoubleArray cuts = SceneDetectionService.cutsFromScores(scores, 0.3);
+
+    // Then
+    assertThat(cuts.toArray()).containsExactly(0.0, 3.0);
+  }
+
+  @Test
+  @DisplayName("근사 중복 장면의 대표 참조, 대표 실패 시 제외, 장면 번호 부여 테스트")
+  void processSegmentsWithDuplicates() throws Exception {
+    // Given: 장면 2는 장면 0의, 장면 4는 장면 1의 근사 중복이며 장면 1의 클립 작업은 실패
+    long a = 0L;
+    long b = -1L;
+    long c = 0x0000_0000_FFFF_FFFFL;
+    PerceptualHasher hasher = mock(PerceptualHasher.class);
+    given(hasher.hash(eq("in.mp4"), any(double[].class))).willReturn(new long[] {a, b, a, c, b});
+    InMemoryJobQueue queue = new CompletingJobQueue("scene_002.mp4");
+    SceneDetectionService service =
+        new SceneDetectionService(
+            null,
+            null,
+            "out",
+            null,
+            null,
+            null,
+            queue,
+            null,
+            null,
+            null,
+            SceneDetectionService.DETECTOR_SELECT,
+            hasher,
+            null,
+            new JobQueueProperties(
+                "memory",
+                "test",
+                0,
+                Duration.ofMillis(10),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(10),
+                3,
+                Duration.ofSeconds(5)));
+    List<SceneDetectionService.SceneSegment> segments =
+        List.of(
+            new SceneDetectionService.SceneSegment(0.0, 2.0),
+            new SceneDetectionService.SceneSegment(2.0, 4.0),
+            new SceneDetectionService.SceneSegment(4.0, 6.0),
+            new SceneDetectionService.SceneSegment(6.0, 8.0),
+            new SceneDetectionService.SceneSegment(8.0, 10.0));
+
+    // When
+    List<SceneResult> results =
+        service.processSegments("in.mp4", segments, Path.of("out"), 1, true);
+
+    // Then: 대표 장면만 번호를 받고(1, 2, 3), 중복은 결과 목록 내 대표 위치를 참조
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).startTime()).isEqualTo(0.0);
+    assertThat(results.get(0).clipPath()).endsWith("scene_001.mp4");
+    assertThat(results.get(0).duplicateOf()).isNull();
+    assertThat(results.get(1).startTime()).isEqualTo(4.0);
+    assertThat(results.get(1).clipPath()).isEqualTo(results.get(0).clipPath());
+    assertThat(results.get(1).duplicateOf()).isEqualTo(0);
+    assertThat(results.get(2).startTime()).isEqualTo(6.0);
+    assertThat(results.get(2).clipPath()).endsWith("scene_003.mp4");
+    assertThat(results.get(2).duplicateOf()).isNull();
+  }
+
+  /** 등록된 클립 작업을 바로 완료 처리하고, 지정한 클립 이름의 작업만 실패 처리하는 큐 */
+  private static final class CompletingJobQueue extends InMemoryJobQueue {
+
+    private final String failingClip;
+
+    CompletingJobQueue(String failingClip) {
+      super("test");
+      this.failingClip = failingClip;
+    }
+
+    @Override
+    public synchronized String submit(WorkItem item) {
+      String jobId = super.submit(item);
+      Lease lease = claim("test", EnumSet.of(WorkItem.Type.CLIP)).orElseThrow();
+      String clipPath = item.param("clipPath");
+      if (clipPath.endsWith(failingClip)) {
+        fail(lease, "ffmpeg failed");
+      } else {
+        complete(lease, Map.of("clipPath", clipPath, "thumbnailPath", item.param("thumbnailPath")));
+      }
+      return jobId;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.gdpark.ffmpeg.service;
+
+import com.gdpark.ffmpeg.util.DoubleArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TailSceneDetectionServiceTest {
+
+  @Test
+  @DisplayName("ffprobe 프레임 출력에서 전환 시점 및 마지막 프레임 파싱 테스트")
+  void parseScan() throws IOException {
+    // Given
+    String output =
+        String.join(
+            "\n",
+            "pts_time=1.000000|tag:lavfi.scene_score=0.000000",
+            "pts_time=1.040000|tag:lavfi.scene_score=0.750000",
+            "[mpegts @ 0x1] Packet corrupt",
+            "pts_time=1.080000|tag:lavfi.scene_score=0.100000");
+
+    // When
+    TailSceneDetectionService.TailScan scan =
+        TailSceneDetectionService.parseScan(
+            new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8)), 0.3);
+
+    // Then
+    assertThat(scan.cuts().toArray()).containsExactly(1.04);
+    assertThat(scan.lastPts()).isEqualTo(1.08);
+  }
+
+  @Test
+  @DisplayName("증분 요청마다 새로 확정된 장면만 반환하는지 테스트")
+  void advanceReturnsDeltaOnly() {
+    TailSceneDetectionService.TailCheckpoint checkpoint =
+        new TailSceneDetectionService.TailCheckpoint(Path.of("out"));
+
+    // 1차: 10초까지 기록됨. 9.5초 전환은 파일 끝 1초 이내라 다음 요청으로 미룸
+    List<SceneDetectionService.SceneSegment> first =
+        TailSceneDetectionService.advance(
+            checkpoint,
+            new TailSceneDetectionService.TailScan(DoubleArray.of(3.0, 9.5), 10.0),
+            false);
+    assertThat(first).containsExactly(new SceneDetectionService.SceneSegment(0.0, 3.0));
+    assertThat(checkpoint.processedUntil).isEqualTo(9.0);
+
+    // 2차: 겹쳐서 다시 디코딩된 3.0은 무시, 9.5 ~ 9.8은 너무 짧아 스킵
+    List<SceneDetectionService.SceneSegment> second =
+        TailSceneDetectionService.advance(
+            checkpoint,
+            new TailSceneDetectionService.TailScan(DoubleArray.of(9.5, 9.8, 15.0), 20.0),
+            false);
+    assertThat(second)
+        .containsExactly(
+            new SceneDetectionService.SceneSegment(3.0, 9.5),
+            new SceneDetectionService.SceneSegment(9.8, 15.0));
+
+    // 3차: 녹화 종료 -> 마지막 장면을 파일 끝에서 닫음
+    List<SceneDetectionService.SceneSegment> last =
+        TailSceneDetectionService.advance(
+            checkpoint, new TailSceneDetectionService.TailScan(DoubleArray.of(15.0), 25.0), true);
+    assertThat(last).containsExactly(new SceneDetectionService.SceneSegment(15.0, 25.0));
+  }
+
+  @Test
+  @DisplayName("seek 위치와 select 쉼표 이스케이프가 반영된 lavfi 그래프 생성 테스트")
+  void scanGraph() {
+    // When
+    String resumed = TailSceneDetectionService.scanGraph("in.ts", 12.5, ":dec_threads=2");
+    String fromStart = TailSceneDetectionService.scanGraph("in.ts", 0, "");
+
+    // Then: 쉼표는 \, 한 번만 이스케이프 (\\, 이면 ffmpeg가 그래프를 해석하지 못함)
+    assertThat(resumed).isEqualTo("movie=in.ts:sp=12.500000:dec_threads=2,select=gte(scene\\,0)");
+    assertThat(fromStart).isEqualTo("movie=in.ts,select=gte(scene\\,0)");
+  }
+
+  @Test
+  @DisplayName("증분 요청마다 새로 추가된 바이트만 집계하는지 테스트")
+  void newBytes() {
+    TailSceneDetectionService.TailCheckpoint checkpoint =
+        new TailSceneDetectionService.TailCheckpoint(Path.of("out"));
+
+    assertThat(TailSceneDetectionService.newBytes(checkpoint, 1_000)).isEqualTo(1_000);
+    assertThat(TailSceneDetectionService.newBytes(checkpoint, 1_500)).isEqualTo(500);
+    assertThat(TailSceneDetectionService.newBytes(checkpoint, 1_500)).isZero();
+  }
+}
@@ -0,0 +1,54 @@
+package com.gdpark.ffmpeg.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FfprobeOutputParserTest {
+
+  @Test
+  @DisplayName("한 줄 한 숫자 출력 파싱 테스트")
+  void readDoubles() throws IOException {
+    // Given
+    String output = "1.001000\r\n\n  12.345678  \n[Parsed_movie_0] warning\n-0.5\n1e-3\n100";
+    DoubleArray target = new DoubleArray(1);
+
+    // When: 버퍼보다 긴 줄이 있어도 잘려서는 안 됨
+    new FfprobeOutputParser(4)
+        .readDoubles(new ByteArrayInputStream(output.getBytes(StandardCharsets.US_ASCII)), target);
+
+    // Then
+    assertThat(target.toArray()).containsExactly(1.001, 12.345678, -0.5, 0.001, 100.0);
+  }
+
+  @Test
+  @DisplayName("바이트 구간 숫자 변환이 Double.parseDouble과 일치하는지 테스트")
+  void parseDouble() {
+    for (String value :
+        new String[] {"0.033367", "3599.966667", "-17.25", "0.1", "123456789.123456789"}) {
+      byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+      assertThat(FfprobeOutputParser.parseDouble(bytes, 0, bytes.length))
+          .isEqualTo(Double.parseDouble(value));
+    }
+    byte[] inf = "-inf".getBytes(StandardCharsets.US_ASCII);
+    byte[] na = "N/A".getBytes(StandardCharsets.US_ASCII);
+    assertThat(FfprobeOutputParser.parseDouble(inf, 0, inf.length))
+        .isEqualTo(Double.NEGATIVE_INFINITY);
+    assertThat(FfprobeOutputParser.parseDouble(na, 0, na.length)).isNaN();
+  }
+
+  @Test
+  @DisplayName("타임라인 정렬 및 중복 제거 테스트")
+  void sortAndDedupe() {
+    DoubleArray timeline = DoubleArray.of(5.0, 0.0, 2.5, 5.0, 0.0);
+
+    timeline.sortAndDedupe();
+
+    assertThat(timeline.toArray()).containsExactly(0.0, 2.5, 5.0);
+  }
+}